@@ -0,0 +1,338 @@
+package com.lorettabank.account.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lorettabank.account.dto.AccountResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Slf4j
+public class AccountCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "account-cache-invalidation";
+
+    private static final String KEY_PREFIX = "account-cache:";
+    private static final String GENERATION_SUFFIX = ":gen";
+    private static final int MAX_LOAD_ATTEMPTS = 2;
+
+    /**
+     * Writes a loaded value only if no eviction bumped the key's generation since the load started,
+     * so a read racing a committed mutation cannot put the old row back for a full TTL.
+     */
+    private static final RedisScript<Long> SET_IF_GENERATION =
+            new DefaultRedisScript<>(
+                    "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                            + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1",
+                    Long.class);
+
+    private final Cache<String, Object> local;
+    private final RedisTemplate<String, byte[]> remote;
+    private final Duration remoteTtl;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter invalidations;
+    private final Counter staleLoads;
+
+    public AccountCache(
+            @Qualifier("accountCacheRedisTemplate")
+                    ObjectProvider<RedisTemplate<String, byte[]>> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${account.cache.local.maximum-size:10000}") long maximumSize,
+            @Value("${account.cache.local.ttl-ms:30000}") long localTtlMs,
+            @Value("${account.cache.remote.ttl-ms:300000}") long remoteTtlMs) {
+        this.local =
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                        .build();
+        this.remote = redisTemplate.getIfAvailable();
+        this.remoteTtl = Duration.ofMillis(remoteTtlMs);
+
+        this.localHits = requests(meterRegistry, "local", "hit");
+        this.localMisses = requests(meterRegistry, "local", "miss");
+        this.remoteHits = requests(meterRegistry, "remote", "hit");
+        this.remoteMisses = requests(meterRegistry, "remote", "miss");
+        this.invalidations =
+                Counter.builder("account.cache.invalidations")
+                        .description("Account cache entries invalidated after a mutation")
+                        .register(meterRegistry);
+        this.staleLoads =
+                Counter.builder("account.cache.stale-loads")
+                        .description("Loads discarded because the entry was evicted mid-load")
+                        .register(meterRegistry);
+        Gauge.builder("account.cache.local.size", local, Cache::estimatedSize)
+                .description("Entries held in the in-process account cache")
+                .register(meterRegistry);
+    }
+
+    public AccountResponse getAccount(Long accountId, Supplier<AccountResponse> loader) {
+        return get(
+                accountKey(accountId),
+                AccountCacheCodec::decodeAccount,
+                AccountCacheCodec::encodeAccount,
+                loader);
+    }
+
+    // Misses are read from Redis in one round trip and loaded in one call, after their
+    // generations are read, so listing accounts does not cost a query per cold account
+    public List<AccountResponse> getAccounts(
+            List<Long> accountIds, Function<List<Long>, List<AccountResponse>> loader) {
+        Map<Long, AccountResponse> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long accountId : accountIds) {
+            Object cached = local.getIfPresent(accountKey(accountId));
+            if (cached != null) {
+                localHits.increment();
+                found.put(accountId, (AccountResponse) cached);
+            } else {
+                localMisses.increment();
+                misses.add(accountId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            found.putAll(loadAccounts(misses, loader));
+        }
+        return accountIds.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    public Long getAccountId(String accountNumber, Supplier<Long> loader) {
+        return get(
+                KEY_PREFIX + "number:" + accountNumber,
+                bytes -> AccountCacheCodec.decodeIds(bytes).get(0),
+                id -> AccountCacheCodec.encodeIds(List.of(id)),
+                loader);
+    }
+
+    public List<Long> getCustomerAccountIds(Long customerId, Supplier<List<Long>> loader) {
+        return get(
+                customerKey(customerId),
+                AccountCacheCodec::decodeIds,
+                AccountCacheCodec::encodeIds,
+                loader);
+    }
+
+    public void evictAccount(Long accountId) {
+        evictAfterCommit(accountKey(accountId));
+    }
+
+    public void evictCustomer(Long customerId) {
+        evictAfterCommit(customerKey(customerId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        local.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(
+            String key,
+            Function<byte[], T> decoder,
+            Function<T, byte[]> encoder,
+            Supplier<T> loader) {
+        Object cached = local.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return (T) cached;
+        }
+        localMisses.increment();
+        return (T) local.get(key, k -> loadRemote(k, decoder, encoder, loader));
+    }
+
+    private <T> T loadRemote(
+            String key,
+            Function<byte[], T> decoder,
+            Function<T, byte[]> encoder,
+            Supplier<T> loader) {
+        if (remote == null) {
+            return loader.get();
+        }
+
+        try {
+            byte[] stored = remote.opsForValue().get(key);
+            if (stored != null) {
+                remoteHits.increment();
+                return decoder.apply(stored);
+            }
+        } catch (RuntimeException e) {
+            log.debug("Account cache read failed for {}: {}", key, e.getMessage());
+        }
+        remoteMisses.increment();
+
+        for (int attempt = 1; ; attempt++) {
+            String generation = generation(key);
+            T value = loader.get();
+            if (writeIfCurrent(key, generation, encoder.apply(value))
+                    || attempt == MAX_LOAD_ATTEMPTS) {
+                return value;
+            }
+            staleLoads.increment();
+        }
+    }
+
+    private Map<Long, AccountResponse> loadAccounts(
+            List<Long> accountIds, Function<List<Long>, List<AccountResponse>> loader) {
+        Map<Long, AccountResponse> loaded = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        List<byte[]> stored = multiGet(accountIds.stream().map(AccountCache::accountKey).toList());
+        for (int i = 0; i < accountIds.size(); i++) {
+            byte[] value = stored.get(i);
+            if (value == null) {
+                misses.add(accountIds.get(i));
+                continue;
+            }
+            remoteHits.increment();
+            AccountResponse account = AccountCacheCodec.decodeAccount(value);
+            local.put(accountKey(account.getId()), account);
+            loaded.put(account.getId(), account);
+        }
+        if (misses.isEmpty()) {
+            return loaded;
+        }
+        if (remote != null) {
+            remoteMisses.increment(misses.size());
+        }
+
+        List<byte[]> generations =
+                multiGet(misses.stream().map(id -> accountKey(id) + GENERATION_SUFFIX).toList());
+        for (AccountResponse account : loader.apply(misses)) {
+            String key = accountKey(account.getId());
+            if (writeIfCurrent(
+                    key,
+                    generationOf(generations.get(misses.indexOf(account.getId()))),
+                    AccountCacheCodec.encodeAccount(account))) {
+                local.put(key, account);
+            } else {
+                staleLoads.increment();
+            }
+            loaded.put(account.getId(), account);
+        }
+        return loaded;
+    }
+
+    private String generationOf(byte[] generation) {
+        if (remote == null) {
+            return null;
+        }
+        return generation == null ? "0" : new String(generation, StandardCharsets.UTF_8);
+    }
+
+    // Reads keys in one round trip; an unavailable Redis reads as all misses
+    private List<byte[]> multiGet(List<String> keys) {
+        if (remote != null) {
+            try {
+                List<byte[]> values = remote.opsForValue().multiGet(keys);
+                if (values != null) {
+                    return values;
+                }
+            } catch (RuntimeException e) {
+                log.debug("Account cache read failed for {} keys: {}", keys.size(), e.getMessage());
+            }
+        }
+        return Collections.nCopies(keys.size(), null);
+    }
+
+    private String generation(String key) {
+        try {
+            byte[] generation = remote.opsForValue().get(key + GENERATION_SUFFIX);
+            return generation == null ? "0" : new String(generation, StandardCharsets.UTF_8);
+        } catch (RuntimeException e) {
+            log.debug("Account cache generation read failed for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean writeIfCurrent(String key, String generation, byte[] value) {
+        if (generation == null) {
+            return true;
+        }
+        try {
+            Long written =
+                    remote.execute(
+                            SET_IF_GENERATION,
+                            List.of(key, key + GENERATION_SUFFIX),
+                            generation.getBytes(StandardCharsets.UTF_8),
+                            value,
+                            String.valueOf(remoteTtl.toMillis()).getBytes(StandardCharsets.UTF_8));
+            return written == null || written != 0;
+        } catch (RuntimeException e) {
+            log.debug("Account cache write failed for {}: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    private void evictAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evict(key);
+                    }
+                });
+    }
+
+    private void evict(String key) {
+        local.invalidate(key);
+        invalidations.increment();
+        if (remote == null) {
+            return;
+        }
+
+        try {
+            String generationKey = key + GENERATION_SUFFIX;
+            remote.opsForValue().increment(generationKey);
+            remote.expire(generationKey, remoteTtl);
+            remote.delete(key);
+            remote.convertAndSend(INVALIDATION_CHANNEL, key.getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.warn("Account cache invalidation failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String accountKey(Long accountId) {
+        return KEY_PREFIX + "id:" + accountId;
+    }
+
+    private static String customerKey(Long customerId) {
+        return KEY_PREFIX + "customer:" + customerId;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("account.cache.requests")
+                .description("Account cache lookups by cache level and outcome")
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,159 @@
+package com.lorettabank.account.cache;
+
+import com.lorettabank.account.dto.AccountResponse;
+import com.lorettabank.account.entity.AccountStatus;
+import com.lorettabank.account.entity.AccountType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class AccountCacheCodec {
+
+    private static final byte ACCOUNT_V1 = 1;
+    private static final byte IDS_V1 = 2;
+
+    private AccountCacheCodec() {}
+
+    public static byte[] encodeAccount(AccountResponse account) {
+        return write(
+                out -> {
+                    out.writeByte(ACCOUNT_V1);
+                    out.writeLong(account.getId());
+                    out.writeUTF(account.getAccountNumber());
+                    out.writeLong(account.getCustomerId());
+                    out.writeUTF(account.getAccountType().name());
+                    out.writeUTF(account.getCurrency());
+                    writeDecimal(out, account.getBalance());
+                    out.writeBoolean(account.isOverdraftEnabled());
+                    writeDecimal(out, account.getOverdraftLimit());
+                    out.writeShort(account.getBalanceStripes());
+                    out.writeUTF(account.getStatus().name());
+                    writeTimestamp(out, account.getCreatedAt());
+                    writeTimestamp(out, account.getUpdatedAt());
+                });
+    }
+
+    public static AccountResponse decodeAccount(byte[] bytes) {
+        return read(
+                bytes,
+                ACCOUNT_V1,
+                in ->
+                        AccountResponse.builder()
+                                .id(in.readLong())
+                                .accountNumber(in.readUTF())
+                                .customerId(in.readLong())
+                                .accountType(AccountType.valueOf(in.readUTF()))
+                                .currency(in.readUTF())
+                                .balance(readDecimal(in))
+                                .overdraftEnabled(in.readBoolean())
+                                .overdraftLimit(readDecimal(in))
+                                .balanceStripes(in.readUnsignedShort())
+                                .status(AccountStatus.valueOf(in.readUTF()))
+                                .createdAt(readTimestamp(in))
+                                .updatedAt(readTimestamp(in))
+                                .build());
+    }
+
+    public static byte[] encodeIds(List<Long> ids) {
+        return write(
+                out -> {
+                    out.writeByte(IDS_V1);
+                    out.writeInt(ids.size());
+                    for (Long id : ids) {
+                        out.writeLong(id);
+                    }
+                });
+    }
+
+    public static List<Long> decodeIds(byte[] bytes) {
+        return read(
+                bytes,
+                IDS_V1,
+                in -> {
+                    int size = in.readInt();
+                    List<Long> ids = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        ids.add(in.readLong());
+                    }
+                    return ids;
+                });
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(-1);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeByte(value.scale());
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        byte scale = in.readByte();
+        if (scale == -1) {
+            return null;
+        }
+        byte[] unscaled = new byte[in.readUnsignedByte()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readTimestamp(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static byte[] write(Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T read(byte[] bytes, byte version, Reader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte actual = in.readByte();
+            if (actual != version) {
+                throw new IllegalArgumentException("Unsupported cache value version: " + actual);
+            }
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+}
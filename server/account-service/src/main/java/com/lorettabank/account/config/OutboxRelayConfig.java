@@ -0,0 +1,126 @@
+package com.lorettabank.account.config;
+
+import com.lorettabank.shared.event.EventTopics;
+import com.lorettabank.shared.event.codec.EventCodec;
+import com.lorettabank.shared.outbox.OutboxRelay;
+import com.lorettabank.shared.outbox.OutboxReplicationStreamer;
+import com.lorettabank.shared.outbox.OutboxRetention;
+import com.lorettabank.shared.partition.RangePartitionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class OutboxRelayConfig {
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.relay.replication.slot-name:account_outbox}")
+    private String slotName;
+
+    @Value("${outbox.relay.replication.publication:outbox_publication}")
+    private String publication;
+
+    @Value("${outbox.relay.replication.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    @Value("${outbox.retention.premake-days:14}")
+    private int premakeDays;
+
+    @Value("${outbox.retention.published-retention-days:7}")
+    private int publishedRetentionDays;
+
+    @Value("${outbox.retention.archive-retention-days:90}")
+    private int archiveRetentionDays;
+
+    @Value("${outbox.retention.lock-timeout-ms:5000}")
+    private long lockTimeoutMs;
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            KafkaTemplate<String, byte[]> byteArrayKafkaTemplate,
+            EventCodec eventCodec,
+            MeterRegistry meterRegistry) {
+        return new OutboxRelay(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                byteArrayKafkaTemplate,
+                eventCodec,
+                meterRegistry,
+                OutboxRelayConfig::resolveTopic,
+                batchSize,
+                maxBatchesPerRun,
+                Duration.ofMillis(sendTimeoutMs));
+    }
+
+    @Bean
+    public RangePartitionManager rangePartitionManager(
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        return new RangePartitionManager(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                Duration.ofMillis(lockTimeoutMs));
+    }
+
+    @Bean
+    public OutboxRetention outboxRetention(
+            RangePartitionManager rangePartitionManager,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry) {
+        return new OutboxRetention(
+                rangePartitionManager,
+                jdbcTemplate,
+                meterRegistry,
+                premakeDays,
+                publishedRetentionDays,
+                archiveRetentionDays);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.relay.mode", havingValue = "replication")
+    public OutboxReplicationStreamer outboxReplicationStreamer(
+            OutboxRelay outboxRelay,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password) {
+        return new OutboxReplicationStreamer(
+                outboxRelay,
+                jdbcTemplate,
+                meterRegistry,
+                url,
+                username,
+                password,
+                slotName,
+                publication,
+                batchSize,
+                Duration.ofMillis(retryDelayMs));
+    }
+
+    private static String resolveTopic(String eventType) {
+        return switch (eventType) {
+            case "ACCOUNT_OPENED", "MONEY_DEPOSITED", "MONEY_WITHDRAWN" ->
+                    EventTopics.ACCOUNT_EVENTS;
+            case "TRANSFER_INITIATED", "TRANSFER_COMPLETED", "TRANSFER_FAILED" ->
+                    EventTopics.TRANSFER_EVENTS;
+            default -> EventTopics.ACCOUNT_EVENTS;
+        };
+    }
+}
@@ -2,6 +2,11 @@ package com.lorettabank.account.controller;
 
 import com.lorettabank.account.client.CustomerIdentityClient;
 import com.lorettabank.account.dto.AccountResponse;
+import com.lorettabank.account.dto.AccountTransferRequest;
+import com.lorettabank.account.dto.AccountTransferResponse;
+import com.lorettabank.account.dto.BalanceStripesRequest;
+import com.lorettabank.account.dto.BulkPostingRequest;
+import com.lorettabank.account.dto.BulkPostingResponse;
 import com.lorettabank.account.dto.CreateAccountRequest;
 import com.lorettabank.account.dto.DepositRequest;
 import com.lorettabank.account.dto.WithdrawRequest;
@@ -82,14 +87,16 @@ public class AccountController {
     @PostMapping("/{id}/deposit")
     public ResponseEntity<AccountResponse> deposit(
             @PathVariable Long id, @Valid @RequestBody DepositRequest request) {
-        AccountResponse account = accountService.getAccount(id);
-        if (hasRole(JwtConstants.ROLE_CUSTOMER)
-                && !account.getCustomerId().equals(getAuthenticatedCustomerId())) {
-            throw new ForbiddenException("Customers can only deposit to their own accounts");
-        }
         if (!hasRole(JwtConstants.ROLE_ADMIN) && !hasRole(JwtConstants.ROLE_CUSTOMER)) {
             throw new ForbiddenException("Only ADMIN or CUSTOMER can perform deposits");
         }
+        if (hasRole(JwtConstants.ROLE_CUSTOMER)
+                && !accountService
+                        .getAccount(id)
+                        .getCustomerId()
+                        .equals(getAuthenticatedCustomerId())) {
+            throw new ForbiddenException("Customers can only deposit to their own accounts");
+        }
 
         AccountResponse response = accountService.deposit(id, request);
         return ResponseEntity.ok(response);
@@ -98,14 +105,16 @@ public class AccountController {
     @PostMapping("/{id}/withdraw")
     public ResponseEntity<AccountResponse> withdraw(
             @PathVariable Long id, @Valid @RequestBody WithdrawRequest request) {
-        AccountResponse account = accountService.getAccount(id);
-        if (hasRole(JwtConstants.ROLE_CUSTOMER)
-                && !account.getCustomerId().equals(getAuthenticatedCustomerId())) {
-            throw new ForbiddenException("Customers can only withdraw from their own accounts");
-        }
         if (!hasRole(JwtConstants.ROLE_ADMIN) && !hasRole(JwtConstants.ROLE_CUSTOMER)) {
             throw new ForbiddenException("Only ADMIN or CUSTOMER can perform withdrawals");
         }
+        if (hasRole(JwtConstants.ROLE_CUSTOMER)
+                && !accountService
+                        .getAccount(id)
+                        .getCustomerId()
+                        .equals(getAuthenticatedCustomerId())) {
+            throw new ForbiddenException("Customers can only withdraw from their own accounts");
+        }
 
         AccountResponse response = accountService.withdraw(id, request);
         return ResponseEntity.ok(response);
@@ -131,6 +140,59 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{id}/stripes")
+    public ResponseEntity<AccountResponse> configureBalanceStripes(
+            @PathVariable Long id, @Valid @RequestBody BalanceStripesRequest request) {
+        if (!hasRole(JwtConstants.ROLE_ADMIN)) {
+            throw new ForbiddenException("Only admins can configure balance stripes");
+        }
+
+        AccountResponse response = accountService.configureBalanceStripes(id, request.getStripes());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/stripes/consolidate")
+    public ResponseEntity<AccountResponse> consolidateBalanceStripes(@PathVariable Long id) {
+        if (!hasRole(JwtConstants.ROLE_ADMIN)) {
+            throw new ForbiddenException("Only admins can consolidate balance stripes");
+        }
+
+        AccountResponse response = accountService.consolidateBalanceStripes(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/internal/transfers")
+    public ResponseEntity<AccountTransferResponse> transfer(
+            @Valid @RequestBody AccountTransferRequest request) {
+        if (!hasRole(JwtConstants.ROLE_ADMIN)) {
+            throw new ForbiddenException("Only system callers can post internal transfers");
+        }
+
+        AccountTransferResponse response = accountService.transfer(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/internal/postings")
+    public ResponseEntity<BulkPostingResponse> postBatch(
+            @Valid @RequestBody BulkPostingRequest request) {
+        if (!hasRole(JwtConstants.ROLE_ADMIN)) {
+            throw new ForbiddenException("Only system callers can post bulk movements");
+        }
+
+        BulkPostingResponse response = accountService.postBatch(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/internal/transfers/{transferId}/void")
+    public ResponseEntity<AccountTransferResponse> voidTransfer(@PathVariable String transferId) {
+        if (!hasRole(JwtConstants.ROLE_ADMIN)) {
+            throw new ForbiddenException("Only system callers can void internal transfers");
+        }
+
+        AccountTransferResponse response = accountService.voidTransfer(transferId);
+        return ResponseEntity.ok(response);
+    }
+
     private Long getAuthenticatedUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         return Long.valueOf(auth.getPrincipal().toString());
@@ -23,6 +23,7 @@ public class AccountResponse {
     private BigDecimal balance;
     private boolean overdraftEnabled;
     private BigDecimal overdraftLimit;
+    private int balanceStripes;
     private AccountStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
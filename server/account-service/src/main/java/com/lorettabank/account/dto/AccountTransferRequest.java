@@ -0,0 +1,35 @@
+package com.lorettabank.account.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTransferRequest {
+
+    @NotBlank(message = "Transfer ID is required")
+    @Size(max = 36, message = "Transfer ID must not exceed 36 characters")
+    private String transferId;
+
+    @NotNull(message = "Source account ID is required")
+    private Long sourceAccountId;
+
+    @NotNull(message = "Target account ID is required")
+    private Long targetAccountId;
+
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private BigDecimal amount;
+
+    @NotBlank(message = "Reference is required")
+    private String reference;
+}
@@ -0,0 +1,25 @@
+package com.lorettabank.account.dto;
+
+import com.lorettabank.account.entity.AccountTransferStatus;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTransferResponse {
+
+    private String transferId;
+    private AccountTransferStatus status;
+    private Long sourceAccountId;
+    private BigDecimal sourceBalanceAfter;
+    private Long targetAccountId;
+    private BigDecimal targetBalanceAfter;
+    private BigDecimal amount;
+    private String currency;
+    private String reference;
+}
@@ -0,0 +1,21 @@
+package com.lorettabank.account.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceStripesRequest {
+
+    @NotNull(message = "Stripes is required")
+    @Min(value = 0, message = "Stripes must not be negative")
+    @Max(value = 64, message = "Stripes must not exceed 64")
+    private Integer stripes;
+}
@@ -0,0 +1,21 @@
+package com.lorettabank.account.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPostingRequest {
+
+    @NotEmpty(message = "At least one posting leg is required")
+    @Size(max = 1000, message = "A bulk posting must not exceed 1000 legs")
+    private List<@Valid PostingLeg> legs;
+}
@@ -0,0 +1,18 @@
+package com.lorettabank.account.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPostingResponse {
+
+    private int applied;
+    private int rejected;
+    private List<PostingLegResult> results;
+}
@@ -0,0 +1,22 @@
+package com.lorettabank.account.dto;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingLegResult {
+
+    private int index;
+    private Long accountId;
+    private BigDecimal amount;
+    private String reference;
+    private PostingLegStatus status;
+    private BigDecimal balanceAfter;
+    private String reason;
+}
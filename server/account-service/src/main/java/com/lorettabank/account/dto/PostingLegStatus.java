@@ -0,0 +1,6 @@
+package com.lorettabank.account.dto;
+
+public enum PostingLegStatus {
+    APPLIED,
+    REJECTED
+}
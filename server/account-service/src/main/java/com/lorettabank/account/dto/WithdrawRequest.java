@@ -21,4 +21,7 @@ public class WithdrawRequest {
 
     @NotBlank(message = "Reference is required")
     private String reference;
+
+    // Set by transaction-service so a retried or voided posting is applied at most once
+    private String postingId;
 }
@@ -57,6 +57,10 @@ public class AccountEntity {
     @Builder.Default
     private BigDecimal overdraftLimit = BigDecimal.ZERO;
 
+    @Column(name = "balance_stripes", nullable = false)
+    @Builder.Default
+    private int balanceStripes = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     @Builder.Default
@@ -68,6 +72,10 @@ public class AccountEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    public boolean isStriped() {
+        return balanceStripes > 0;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,57 @@
+package com.lorettabank.account.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "account_transfers")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTransfer {
+
+    @Id
+    @Column(name = "transfer_id", length = 36)
+    private String transferId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AccountTransferStatus status;
+
+    @Column(name = "source_account_id")
+    private Long sourceAccountId;
+
+    @Column(name = "target_account_id")
+    private Long targetAccountId;
+
+    @Column(precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Column(length = 3)
+    private String currency;
+
+    @Column(length = 100)
+    private String reference;
+
+    @Column(name = "source_balance_after", precision = 19, scale = 4)
+    private BigDecimal sourceBalanceAfter;
+
+    @Column(name = "target_balance_after", precision = 19, scale = 4)
+    private BigDecimal targetBalanceAfter;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
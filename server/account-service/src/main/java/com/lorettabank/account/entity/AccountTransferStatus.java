@@ -0,0 +1,6 @@
+package com.lorettabank.account.entity;
+
+public enum AccountTransferStatus {
+    APPLIED,
+    VOIDED
+}
@@ -1,8 +1,10 @@
 package com.lorettabank.account.mapper;
 
 import com.lorettabank.account.dto.AccountResponse;
+import com.lorettabank.account.dto.AccountTransferResponse;
 import com.lorettabank.account.dto.CreateAccountRequest;
 import com.lorettabank.account.entity.AccountEntity;
+import com.lorettabank.account.entity.AccountTransfer;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -11,11 +13,14 @@ public interface AccountMapper {
 
     AccountResponse toResponse(AccountEntity entity);
 
+    AccountTransferResponse toTransferResponse(AccountTransfer transfer);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "accountNumber", ignore = true)
     @Mapping(target = "balance", ignore = true)
     @Mapping(target = "overdraftEnabled", ignore = true)
     @Mapping(target = "overdraftLimit", ignore = true)
+    @Mapping(target = "balanceStripes", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -0,0 +1,44 @@
+package com.lorettabank.account.repository;
+
+import com.lorettabank.account.entity.AccountEntity;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface AccountBalanceRepository {
+
+    Optional<AccountEntity> applyCredit(Long accountId, BigDecimal amount);
+
+    Optional<AccountEntity> applyDebit(Long accountId, BigDecimal amount);
+
+    Optional<AccountEntity> applyFreeze(Long accountId);
+
+    Optional<AccountEntity> applyClose(Long accountId);
+
+    Optional<AccountEntity> findCurrent(Long accountId);
+
+    Optional<AccountEntity> findCurrentForCredit(Long accountId);
+
+    Optional<AccountEntity> findCurrentForDebit(Long accountId);
+
+    Optional<AccountEntity> findCurrentForStatusChange(Long accountId);
+
+    List<AccountEntity> lockForPosting(List<Long> accountIds);
+
+    void applyPostings(Map<Long, BigDecimal> netChanges);
+
+    boolean applyStripeCredit(Long accountId, int stripe, BigDecimal amount);
+
+    Optional<AccountEntity> applyReservedDebit(Long accountId, BigDecimal amount);
+
+    BigDecimal stripeBalance(Long accountId);
+
+    BigDecimal totalBalance(Long accountId);
+
+    Optional<AccountEntity> consolidateStripes(Long accountId);
+
+    void resetStripes(Long accountId, int stripes);
+
+    List<Long> findStripedAccountIds();
+}
@@ -0,0 +1,209 @@
+package com.lorettabank.account.repository;
+
+import com.lorettabank.account.entity.AccountEntity;
+import com.lorettabank.account.entity.AccountStatus;
+import com.lorettabank.account.entity.AccountType;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class AccountBalanceRepositoryImpl implements AccountBalanceRepository {
+
+    private static final String CREDIT_SQL =
+            "UPDATE accounts SET balance = balance + ?, updated_at = LOCALTIMESTAMP"
+                    + " WHERE id = ? AND status = 'ACTIVE' AND balance_stripes = 0"
+                    + " RETURNING *";
+
+    private static final String DEBIT_SQL =
+            "UPDATE accounts SET balance = balance - ?, updated_at = LOCALTIMESTAMP"
+                    + " WHERE id = ? AND status = 'ACTIVE' AND balance_stripes = 0"
+                    + " AND balance + CASE WHEN overdraft_enabled THEN overdraft_limit ELSE 0 END"
+                    + " >= ?"
+                    + " RETURNING *";
+
+    private static final String FREEZE_SQL =
+            "UPDATE accounts SET status = 'FROZEN', updated_at = LOCALTIMESTAMP"
+                    + " WHERE id = ? AND status <> 'CLOSED'"
+                    + " RETURNING *";
+
+    private static final String CLOSE_SQL =
+            "UPDATE accounts SET status = 'CLOSED', updated_at = LOCALTIMESTAMP"
+                    + " WHERE id = ? AND balance = 0"
+                    + " RETURNING *";
+
+    private static final String FIND_SQL = "SELECT * FROM accounts WHERE id = ?";
+
+    private static final String LOCK_FOR_POSTING_SQL =
+            "SELECT * FROM accounts WHERE id = ANY (?) ORDER BY id FOR NO KEY UPDATE";
+
+    private static final String POSTING_SQL =
+            "UPDATE accounts SET balance = balance + ?, updated_at = LOCALTIMESTAMP WHERE id = ?";
+
+    private static final String STRIPE_CREDIT_SQL =
+            "UPDATE account_balance_stripes SET balance = balance + ?"
+                    + " WHERE account_id = ? AND stripe = ?";
+
+    private static final String RESERVED_DEBIT_SQL =
+            "UPDATE accounts SET balance = balance - ?, updated_at = LOCALTIMESTAMP"
+                    + " WHERE id = ?"
+                    + " RETURNING *";
+
+    private static final String STRIPE_BALANCE_SQL =
+            "SELECT COALESCE(sum(balance), 0) FROM account_balance_stripes WHERE account_id = ?";
+
+    private static final String TOTAL_BALANCE_SQL =
+            "SELECT a.balance + COALESCE(sum(s.balance), 0) FROM accounts a"
+                    + " LEFT JOIN account_balance_stripes s ON s.account_id = a.id"
+                    + " WHERE a.id = ? GROUP BY a.id";
+
+    private static final String CONSOLIDATE_SQL =
+            "WITH drained AS ("
+                    + " SELECT stripe, balance FROM account_balance_stripes"
+                    + " WHERE account_id = ? AND balance <> 0 FOR UPDATE),"
+                    + " cleared AS ("
+                    + " UPDATE account_balance_stripes s SET balance = 0 FROM drained d"
+                    + " WHERE s.account_id = ? AND s.stripe = d.stripe RETURNING d.balance)"
+                    + " UPDATE accounts"
+                    + " SET balance = balance + (SELECT COALESCE(sum(balance), 0) FROM cleared),"
+                    + " updated_at = LOCALTIMESTAMP"
+                    + " WHERE id = ?"
+                    + " RETURNING *";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<AccountEntity> applyCredit(Long accountId, BigDecimal amount) {
+        return single(CREDIT_SQL, amount, accountId);
+    }
+
+    @Override
+    public Optional<AccountEntity> applyDebit(Long accountId, BigDecimal amount) {
+        return single(DEBIT_SQL, amount, accountId, amount);
+    }
+
+    @Override
+    public Optional<AccountEntity> applyFreeze(Long accountId) {
+        return single(FREEZE_SQL, accountId);
+    }
+
+    @Override
+    public Optional<AccountEntity> applyClose(Long accountId) {
+        return single(CLOSE_SQL, accountId);
+    }
+
+    @Override
+    public Optional<AccountEntity> findCurrent(Long accountId) {
+        return single(FIND_SQL, accountId);
+    }
+
+    @Override
+    public Optional<AccountEntity> findCurrentForCredit(Long accountId) {
+        return single(FIND_SQL + " FOR KEY SHARE", accountId);
+    }
+
+    @Override
+    public Optional<AccountEntity> findCurrentForDebit(Long accountId) {
+        return single(FIND_SQL + " FOR NO KEY UPDATE", accountId);
+    }
+
+    @Override
+    public Optional<AccountEntity> findCurrentForStatusChange(Long accountId) {
+        return single(FIND_SQL + " FOR UPDATE", accountId);
+    }
+
+    @Override
+    public List<AccountEntity> lockForPosting(List<Long> accountIds) {
+        return jdbcTemplate.query(
+                LOCK_FOR_POSTING_SQL,
+                ps ->
+                        ps.setArray(
+                                1,
+                                ps.getConnection().createArrayOf("bigint", accountIds.toArray())),
+                AccountBalanceRepositoryImpl::mapAccount);
+    }
+
+    @Override
+    public void applyPostings(Map<Long, BigDecimal> netChanges) {
+        List<Object[]> batch =
+                netChanges.entrySet().stream()
+                        .filter(change -> change.getValue().signum() != 0)
+                        .map(change -> new Object[] {change.getValue(), change.getKey()})
+                        .toList();
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(POSTING_SQL, batch);
+        }
+    }
+
+    @Override
+    public boolean applyStripeCredit(Long accountId, int stripe, BigDecimal amount) {
+        return jdbcTemplate.update(STRIPE_CREDIT_SQL, amount, accountId, stripe) == 1;
+    }
+
+    @Override
+    public Optional<AccountEntity> applyReservedDebit(Long accountId, BigDecimal amount) {
+        return single(RESERVED_DEBIT_SQL, amount, accountId);
+    }
+
+    @Override
+    public BigDecimal stripeBalance(Long accountId) {
+        return jdbcTemplate.queryForObject(STRIPE_BALANCE_SQL, BigDecimal.class, accountId);
+    }
+
+    @Override
+    public BigDecimal totalBalance(Long accountId) {
+        return jdbcTemplate.queryForObject(TOTAL_BALANCE_SQL, BigDecimal.class, accountId);
+    }
+
+    @Override
+    public Optional<AccountEntity> consolidateStripes(Long accountId) {
+        return single(CONSOLIDATE_SQL, accountId, accountId, accountId);
+    }
+
+    @Override
+    public void resetStripes(Long accountId, int stripes) {
+        jdbcTemplate.update("DELETE FROM account_balance_stripes WHERE account_id = ?", accountId);
+        jdbcTemplate.update(
+                "INSERT INTO account_balance_stripes (account_id, stripe)"
+                        + " SELECT ?, generate_series(0, ? - 1)",
+                accountId,
+                stripes);
+        jdbcTemplate.update(
+                "UPDATE accounts SET balance_stripes = ?, updated_at = LOCALTIMESTAMP WHERE id = ?",
+                stripes,
+                accountId);
+    }
+
+    @Override
+    public List<Long> findStripedAccountIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM accounts WHERE balance_stripes > 0 ORDER BY id", Long.class);
+    }
+
+    private Optional<AccountEntity> single(String sql, Object... args) {
+        return jdbcTemplate.query(sql, AccountBalanceRepositoryImpl::mapAccount, args).stream()
+                .findFirst();
+    }
+
+    static AccountEntity mapAccount(ResultSet rs, int rowNum) throws SQLException {
+        return AccountEntity.builder()
+                .id(rs.getLong("id"))
+                .accountNumber(rs.getString("account_number"))
+                .customerId(rs.getLong("customer_id"))
+                .accountType(AccountType.valueOf(rs.getString("account_type")))
+                .currency(rs.getString("currency"))
+                .balance(rs.getBigDecimal("balance"))
+                .overdraftEnabled(rs.getBoolean("overdraft_enabled"))
+                .overdraftLimit(rs.getBigDecimal("overdraft_limit"))
+                .balanceStripes(rs.getInt("balance_stripes"))
+                .status(AccountStatus.valueOf(rs.getString("status")))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .build();
+    }
+}
@@ -4,14 +4,18 @@ import com.lorettabank.account.entity.AccountEntity;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
+public interface AccountRepository
+        extends JpaRepository<AccountEntity, Long>, AccountBalanceRepository {
 
     Optional<AccountEntity> findByAccountNumber(String accountNumber);
 
-    List<AccountEntity> findByCustomerId(Long customerId);
+    @Query("SELECT a.id FROM AccountEntity a WHERE a.customerId = :customerId")
+    List<Long> findIdsByCustomerId(@Param("customerId") Long customerId);
 
     boolean existsByAccountNumber(String accountNumber);
 }
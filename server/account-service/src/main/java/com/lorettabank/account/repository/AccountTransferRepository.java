@@ -0,0 +1,65 @@
+package com.lorettabank.account.repository;
+
+import com.lorettabank.account.entity.AccountTransfer;
+import java.math.BigDecimal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountTransferRepository extends JpaRepository<AccountTransfer, String> {
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO account_transfers (transfer_id, status, source_account_id,"
+                            + " target_account_id, amount, reference)"
+                            + " VALUES (:transferId, 'APPLIED', :sourceAccountId,"
+                            + " :targetAccountId, :amount, :reference)"
+                            + " ON CONFLICT (transfer_id) DO NOTHING",
+            nativeQuery = true)
+    int claim(
+            @Param("transferId") String transferId,
+            @Param("sourceAccountId") Long sourceAccountId,
+            @Param("targetAccountId") Long targetAccountId,
+            @Param("amount") BigDecimal amount,
+            @Param("reference") String reference);
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO account_transfers (transfer_id, status, target_account_id, amount,"
+                            + " reference)"
+                            + " VALUES (:postingId, 'APPLIED', :accountId, :amount, :reference)"
+                            + " ON CONFLICT (transfer_id) DO NOTHING",
+            nativeQuery = true)
+    int claimCredit(
+            @Param("postingId") String postingId,
+            @Param("accountId") Long accountId,
+            @Param("amount") BigDecimal amount,
+            @Param("reference") String reference);
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO account_transfers (transfer_id, status, source_account_id, amount,"
+                            + " reference)"
+                            + " VALUES (:postingId, 'APPLIED', :accountId, :amount, :reference)"
+                            + " ON CONFLICT (transfer_id) DO NOTHING",
+            nativeQuery = true)
+    int claimDebit(
+            @Param("postingId") String postingId,
+            @Param("accountId") Long accountId,
+            @Param("amount") BigDecimal amount,
+            @Param("reference") String reference);
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO account_transfers (transfer_id, status) VALUES (:transferId, 'VOIDED')"
+                            + " ON CONFLICT (transfer_id) DO NOTHING",
+            nativeQuery = true)
+    int voidUnclaimed(@Param("transferId") String transferId);
+}
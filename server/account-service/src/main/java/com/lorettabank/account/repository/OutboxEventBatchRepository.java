@@ -0,0 +1,9 @@
+package com.lorettabank.account.repository;
+
+import com.lorettabank.account.entity.OutboxEvent;
+import java.util.List;
+
+public interface OutboxEventBatchRepository {
+
+    void insertAll(List<OutboxEvent> events);
+}
@@ -0,0 +1,33 @@
+package com.lorettabank.account.repository;
+
+import com.lorettabank.account.entity.OutboxEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class OutboxEventBatchRepositoryImpl implements OutboxEventBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload)"
+                    + " VALUES (?, ?, ?, ?::jsonb)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                events,
+                events.size(),
+                (ps, event) -> {
+                    ps.setString(1, event.getAggregateType());
+                    ps.setString(2, event.getAggregateId());
+                    ps.setString(3, event.getEventType());
+                    ps.setString(4, event.getPayload());
+                });
+    }
+}
@@ -1,12 +1,9 @@
 package com.lorettabank.account.repository;
 
 import com.lorettabank.account.entity.OutboxEvent;
-import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
-
-    List<OutboxEvent> findByPublishedFalse();
-}
+public interface OutboxEventRepository
+        extends JpaRepository<OutboxEvent, Long>, OutboxEventBatchRepository {}
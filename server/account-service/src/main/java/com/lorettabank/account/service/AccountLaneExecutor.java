@@ -0,0 +1,341 @@
+package com.lorettabank.account.service;
+
+import com.lorettabank.shared.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Runs single-account operations on a lane chosen by account id, so operations on one account
+// are serialised in-process and committed together in lane batches.
+//
+// Multi-account operations (AccountService.transfer and postBatch) do not go through the lanes:
+// pinning two or more lane threads would need a cross-lane protocol and risks lanes waiting on
+// each other. They take the account row locks with lockForPosting instead, and the lanes' own
+// balance updates wait on those locks, so both paths stay correct against each other; only the
+// lane batching is lost for them.
+@Component
+@Slf4j
+public class AccountLaneExecutor implements SmartLifecycle {
+
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long STOP_TIMEOUT_MS = 30_000;
+
+    private static final int QUEUED = 0;
+    private static final int STARTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long offerTimeoutMs;
+    private final long waitTimeoutMs;
+    private final List<Lane> lanes;
+    private final Timer waitTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running;
+
+    public AccountLaneExecutor(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.lanes.count:0}") int laneCount,
+            @Value("${account.lanes.queue-capacity:10000}") int queueCapacity,
+            @Value("${account.lanes.max-batch-size:32}") int maxBatchSize,
+            @Value("${account.lanes.offer-timeout-ms:100}") long offerTimeoutMs,
+            @Value("${account.lanes.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Lane lane = new Lane(i, new LinkedBlockingQueue<>(queueCapacity));
+            Gauge.builder("account.lane.queue.depth", lane.queue, BlockingQueue::size)
+                    .description("Account operations waiting in a lane")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+            lanes.add(lane);
+        }
+
+        this.waitTimer =
+                Timer.builder("account.lane.wait")
+                        .description("Time an account operation waits in its lane")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        this.batchSizeSummary =
+                DistributionSummary.builder("account.lane.batch.size")
+                        .description("Account operations committed per lane transaction")
+                        .baseUnit("operations")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+    }
+
+    public <T> T execute(Long accountId, Supplier<T> operation) {
+        if (!running) {
+            throw new IllegalStateException("Account lanes are not running");
+        }
+
+        LaneTask<T> task = new LaneTask<>(accountId, operation, System.nanoTime());
+        Lane lane = laneFor(accountId);
+        try {
+            if (!lane.queue.offer(task, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException(
+                        "Account lane " + lane.index + " is full, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing account operation", e);
+        }
+
+        try {
+            return task.result.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            if (task.cancel()) {
+                lane.queue.remove(task);
+                throw new ServiceUnavailableException(
+                        "Account operation was not started within " + waitTimeoutMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while awaiting account operation", e);
+        }
+
+        // The lane already started this operation, so failing now would hide whether it committed.
+        log.warn(
+                "Account operation still running after {} ms, awaiting its outcome", waitTimeoutMs);
+        try {
+            return task.result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime
+                ? runtime
+                : new IllegalStateException(cause);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (Lane lane : lanes) {
+            Thread thread = new Thread(() -> runLane(lane), "account-lane-" + lane.index);
+            thread.setDaemon(true);
+            lane.thread = thread;
+            thread.start();
+        }
+        log.info("Started {} account lanes", lanes.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(STOP_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private Lane laneFor(Long accountId) {
+        int hash = Long.hashCode(accountId * 0x9E3779B97F4A7C15L);
+        return lanes.get(Math.floorMod(hash, lanes.size()));
+    }
+
+    private void runLane(Lane lane) {
+        List<LaneTask<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !lane.queue.isEmpty()) {
+            try {
+                LaneTask<?> first = lane.queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            lane.queue.drainTo(batch, maxBatchSize - 1);
+
+            Map<Long, List<LaneTask<?>>> byAccount = new LinkedHashMap<>();
+            for (LaneTask<?> task : batch) {
+                byAccount.computeIfAbsent(task.accountId, id -> new ArrayList<>()).add(task);
+            }
+            byAccount.values().forEach(this::runBatch);
+            batch.clear();
+        }
+
+        LaneTask<?> abandoned;
+        while ((abandoned = lane.queue.poll()) != null) {
+            abandoned.fail(new IllegalStateException("Account lanes are shutting down"));
+        }
+    }
+
+    private void runBatch(List<LaneTask<?>> tasks) {
+        tasks.removeIf(task -> !task.start());
+        if (tasks.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        for (LaneTask<?> task : tasks) {
+            waitTimer.record(started - task.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+        batchSizeSummary.record(tasks.size());
+
+        List<LaneTask<?>> pending = tasks;
+        while (!pending.isEmpty()) {
+            pending = commit(pending);
+        }
+    }
+
+    // Each task of a multi-task batch runs under its own savepoint, so a rejected task is rolled
+    // back alone. Hibernate still dooms the whole transaction when a flush or query fails; the
+    // tasks that had succeeded are then returned to run again in a fresh transaction.
+    private List<LaneTask<?>> commit(List<LaneTask<?>> tasks) {
+        List<LaneTask<?>> rerun = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        if (tasks.size() == 1) {
+                            tasks.get(0).run();
+                            return;
+                        }
+                        for (LaneTask<?> task : tasks) {
+                            if (!runIsolated(task, status)) {
+                                tasks.stream().filter(t -> !t.isRejected()).forEach(rerun::add);
+                                status.setRollbackOnly();
+                                return;
+                            }
+                        }
+                    });
+        } catch (RuntimeException e) {
+            tasks.forEach(task -> task.fail(e));
+            return List.of();
+        } catch (Error e) {
+            // Rethrowing would end the lane thread and strand every account hashed to it.
+            log.error("Account lane batch of {} operations failed", tasks.size(), e);
+            tasks.forEach(task -> task.fail(new IllegalStateException(e)));
+            return List.of();
+        }
+        tasks.stream().filter(task -> !rerun.contains(task)).forEach(LaneTask::complete);
+        return rerun;
+    }
+
+    // Returns false when the task's failure left the transaction rollback-only.
+    private boolean runIsolated(LaneTask<?> task, TransactionStatus status) {
+        Object savepoint = status.createSavepoint();
+        try {
+            task.run();
+            status.releaseSavepoint(savepoint);
+            return true;
+        } catch (RuntimeException e) {
+            task.reject(e);
+            if (status.isRollbackOnly()) {
+                return false;
+            }
+            status.rollbackToSavepoint(savepoint);
+            return true;
+        }
+    }
+
+    private static final class Lane {
+
+        private final int index;
+        private final BlockingQueue<LaneTask<?>> queue;
+        private Thread thread;
+
+        private Lane(int index, BlockingQueue<LaneTask<?>> queue) {
+            this.index = index;
+            this.queue = queue;
+        }
+    }
+
+    private static final class LaneTask<T> {
+
+        private final Long accountId;
+        private final Supplier<T> operation;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private T value;
+        private RuntimeException error;
+
+        private LaneTask(Long accountId, Supplier<T> operation, long enqueuedAt) {
+            this.accountId = accountId;
+            this.operation = operation;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        // The lane and a timed-out caller race to move a queued task out of QUEUED; whoever wins
+        // decides whether it runs or is abandoned.
+        private boolean start() {
+            return state.compareAndSet(QUEUED, STARTED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+
+        private void run() {
+            value = operation.get();
+        }
+
+        private void reject(RuntimeException e) {
+            error = e;
+        }
+
+        private boolean isRejected() {
+            return error != null;
+        }
+
+        private void complete() {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        }
+
+        private void fail(RuntimeException e) {
+            result.completeExceptionally(error != null ? error : e);
+        }
+    }
+}
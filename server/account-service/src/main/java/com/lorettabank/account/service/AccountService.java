@@ -2,24 +2,44 @@ package com.lorettabank.account.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.account.cache.AccountCache;
 import com.lorettabank.account.dto.AccountResponse;
+import com.lorettabank.account.dto.AccountTransferRequest;
+import com.lorettabank.account.dto.AccountTransferResponse;
+import com.lorettabank.account.dto.BulkPostingRequest;
+import com.lorettabank.account.dto.BulkPostingResponse;
 import com.lorettabank.account.dto.CreateAccountRequest;
 import com.lorettabank.account.dto.DepositRequest;
+import com.lorettabank.account.dto.PostingLeg;
+import com.lorettabank.account.dto.PostingLegResult;
+import com.lorettabank.account.dto.PostingLegStatus;
 import com.lorettabank.account.dto.WithdrawRequest;
 import com.lorettabank.account.entity.AccountEntity;
 import com.lorettabank.account.entity.AccountStatus;
+import com.lorettabank.account.entity.AccountTransfer;
+import com.lorettabank.account.entity.AccountTransferStatus;
 import com.lorettabank.account.entity.OutboxEvent;
 import com.lorettabank.account.mapper.AccountMapper;
 import com.lorettabank.account.repository.AccountRepository;
+import com.lorettabank.account.repository.AccountTransferRepository;
 import com.lorettabank.account.repository.OutboxEventRepository;
 import com.lorettabank.shared.event.AccountOpenedEvent;
 import com.lorettabank.shared.event.MoneyDepositedEvent;
 import com.lorettabank.shared.event.MoneyWithdrawnEvent;
 import com.lorettabank.shared.exception.BusinessException;
+import com.lorettabank.shared.exception.DuplicateResourceException;
 import com.lorettabank.shared.exception.ResourceNotFoundException;
+import com.lorettabank.shared.money.Money;
 import java.math.BigDecimal;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,8 +54,11 @@ public class AccountService {
     private static final String ACCOUNT_NUMBER_PREFIX = "LOR";
 
     private final AccountRepository accountRepository;
+    private final AccountTransferRepository accountTransferRepository;
     private final OutboxEventRepository outboxEventRepository;
     private final AccountMapper accountMapper;
+    private final AccountLaneExecutor accountLaneExecutor;
+    private final AccountCache accountCache;
     private final ObjectMapper objectMapper;
 
     @Transactional
@@ -71,263 +94,590 @@ public class AccountService {
         event.initDefaults();
 
         saveOutboxEvent("Account", String.valueOf(saved.getId()), "ACCOUNT_OPENED", event);
+        accountCache.evictCustomer(saved.getCustomerId());
 
         return accountMapper.toResponse(saved);
     }
 
-    @Transactional(readOnly = true)
     public AccountResponse getAccount(Long id) {
-        AccountEntity entity =
-                accountRepository
-                        .findById(id)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Account not found with ID: " + id));
-        return accountMapper.toResponse(entity);
+        return accountCache.getAccount(
+                id,
+                () ->
+                        toResponse(
+                                accountRepository
+                                        .findById(id)
+                                        .orElseThrow(
+                                                () ->
+                                                        new ResourceNotFoundException(
+                                                                "Account not found with ID: "
+                                                                        + id))));
     }
 
-    @Transactional(readOnly = true)
     public AccountResponse getAccountByNumber(String accountNumber) {
-        AccountEntity entity =
-                accountRepository
-                        .findByAccountNumber(accountNumber)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Account not found with number: " + accountNumber));
-        return accountMapper.toResponse(entity);
+        Long id =
+                accountCache.getAccountId(
+                        accountNumber,
+                        () ->
+                                accountRepository
+                                        .findByAccountNumber(accountNumber)
+                                        .map(AccountEntity::getId)
+                                        .orElseThrow(
+                                                () ->
+                                                        new ResourceNotFoundException(
+                                                                "Account not found with number: "
+                                                                        + accountNumber)));
+        return getAccount(id);
     }
 
-    @Transactional(readOnly = true)
     public List<AccountResponse> getAccountsByCustomer(Long customerId) {
-        return accountRepository.findByCustomerId(customerId).stream()
-                .map(accountMapper::toResponse)
-                .toList();
+        List<Long> accountIds =
+                accountCache.getCustomerAccountIds(
+                        customerId, () -> accountRepository.findIdsByCustomerId(customerId));
+        return accountCache.getAccounts(
+                accountIds,
+                missing ->
+                        accountRepository.findAllById(missing).stream()
+                                .map(this::toResponse)
+                                .toList());
     }
 
-    @Transactional
     public AccountResponse deposit(Long accountId, DepositRequest request) {
-        AccountEntity account =
-                accountRepository
-                        .findById(accountId)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Account not found with ID: " + accountId));
-
-        validateAccountActive(account);
+        return accountLaneExecutor.execute(
+                accountId,
+                () -> {
+                    String postingId = request.getPostingId();
+                    if (postingId != null
+                            && accountTransferRepository.claimCredit(
+                                            postingId,
+                                            accountId,
+                                            request.getAmount(),
+                                            request.getReference())
+                                    == 0) {
+                        return replayPosting(postingId, accountId, request.getAmount(), true);
+                    }
+                    AccountEntity saved = credit(accountId, request.getAmount());
+
+                    log.info(
+                            "Deposited {} {} into account {} (ref: {})",
+                            request.getAmount(),
+                            saved.getCurrency(),
+                            saved.getAccountNumber(),
+                            request.getReference());
+
+                    publishDeposited(saved, request.getAmount(), request.getReference());
+                    recordPosting(postingId, saved, true);
+                    return accountMapper.toResponse(saved);
+                });
+    }
 
-        account.setBalance(account.getBalance().add(request.getAmount()));
-        AccountEntity saved = accountRepository.save(account);
+    public AccountResponse withdraw(Long accountId, WithdrawRequest request) {
+        return accountLaneExecutor.execute(
+                accountId,
+                () -> {
+                    String postingId = request.getPostingId();
+                    if (postingId != null
+                            && accountTransferRepository.claimDebit(
+                                            postingId,
+                                            accountId,
+                                            request.getAmount(),
+                                            request.getReference())
+                                    == 0) {
+                        return replayPosting(postingId, accountId, request.getAmount(), false);
+                    }
+                    AccountEntity saved = debit(accountId, request.getAmount());
+
+                    log.info(
+                            "Withdrew {} {} from account {} (ref: {})",
+                            request.getAmount(),
+                            saved.getCurrency(),
+                            saved.getAccountNumber(),
+                            request.getReference());
+
+                    publishWithdrawn(saved, request.getAmount(), request.getReference());
+                    recordPosting(postingId, saved, false);
+                    return accountMapper.toResponse(saved);
+                });
+    }
 
-        log.info(
-                "Deposited {} {} into account {} (ref: {})",
-                request.getAmount(),
-                saved.getCurrency(),
-                saved.getAccountNumber(),
-                request.getReference());
+    public AccountResponse creditAccount(Long accountId, BigDecimal amount, String reference) {
+        return accountLaneExecutor.execute(
+                accountId,
+                () -> {
+                    AccountEntity saved = credit(accountId, amount);
+
+                    log.info(
+                            "Credited {} {} to account {} (ref: {})",
+                            amount,
+                            saved.getCurrency(),
+                            saved.getAccountNumber(),
+                            reference);
+
+                    publishDeposited(saved, amount, reference);
+                    return accountMapper.toResponse(saved);
+                });
+    }
 
-        MoneyDepositedEvent event =
-                MoneyDepositedEvent.builder()
-                        .accountId(saved.getId())
-                        .accountNumber(saved.getAccountNumber())
-                        .amount(request.getAmount())
-                        .currency(saved.getCurrency())
-                        .newBalance(saved.getBalance())
-                        .reference(request.getReference())
-                        .eventType("MONEY_DEPOSITED")
-                        .aggregateId(String.valueOf(saved.getId()))
-                        .build();
-        event.initDefaults();
+    public AccountResponse debitAccount(Long accountId, BigDecimal amount, String reference) {
+        return accountLaneExecutor.execute(
+                accountId,
+                () -> {
+                    AccountEntity saved = debit(accountId, amount);
+
+                    log.info(
+                            "Debited {} {} from account {} (ref: {})",
+                            amount,
+                            saved.getCurrency(),
+                            saved.getAccountNumber(),
+                            reference);
+
+                    publishWithdrawn(saved, amount, reference);
+                    return accountMapper.toResponse(saved);
+                });
+    }
 
-        saveOutboxEvent("Account", String.valueOf(saved.getId()), "MONEY_DEPOSITED", event);
+    public AccountResponse freezeAccount(Long id) {
+        return accountLaneExecutor.execute(
+                id,
+                () -> {
+                    findAccountForStatusChange(id);
+                    AccountEntity saved =
+                            accountRepository
+                                    .applyFreeze(id)
+                                    .orElseThrow(
+                                            () ->
+                                                    new BusinessException(
+                                                            "Cannot freeze a closed account"));
+                    accountCache.evictAccount(id);
+                    log.info("Frozen account {}", saved.getAccountNumber());
+                    return toResponse(saved);
+                });
+    }
 
-        return accountMapper.toResponse(saved);
+    public AccountResponse closeAccount(Long id) {
+        return accountLaneExecutor.execute(
+                id,
+                () -> {
+                    AccountEntity account = findAccountForStatusChange(id);
+                    if (account.isStriped()) {
+                        accountRepository.consolidateStripes(id);
+                    }
+
+                    AccountEntity saved =
+                            accountRepository
+                                    .applyClose(id)
+                                    .orElseThrow(
+                                            () ->
+                                                    new BusinessException(
+                                                            "Cannot close account with non-zero balance."
+                                                                    + " Current balance: "
+                                                                    + accountRepository
+                                                                            .totalBalance(id)));
+                    accountCache.evictAccount(id);
+                    log.info("Closed account {}", saved.getAccountNumber());
+                    return toResponse(saved);
+                });
     }
 
     @Transactional
-    public AccountResponse withdraw(Long accountId, WithdrawRequest request) {
-        AccountEntity account =
-                accountRepository
-                        .findById(accountId)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Account not found with ID: " + accountId));
+    public AccountTransferResponse transfer(AccountTransferRequest request) {
+        Long sourceId = request.getSourceAccountId();
+        Long targetId = request.getTargetAccountId();
+        if (sourceId.equals(targetId)) {
+            throw new BusinessException("Source and target accounts must be different");
+        }
 
-        validateAccountActive(account);
-        validateSufficientBalance(account, request.getAmount());
+        int claimed =
+                accountTransferRepository.claim(
+                        request.getTransferId(),
+                        sourceId,
+                        targetId,
+                        request.getAmount(),
+                        request.getReference());
+        if (claimed == 0) {
+            return replayTransfer(request);
+        }
+
+        Map<Long, AccountEntity> locked =
+                accountRepository.lockForPosting(List.of(sourceId, targetId)).stream()
+                        .collect(Collectors.toMap(AccountEntity::getId, Function.identity()));
+        AccountEntity source = lockedAccount(locked, sourceId);
+        AccountEntity target = lockedAccount(locked, targetId);
+        validateAccountActive(source);
+        validateAccountActive(target);
+        if (!source.getCurrency().equals(target.getCurrency())) {
+            throw new BusinessException(
+                    "Currency mismatch: "
+                            + source.getCurrency()
+                            + " account cannot transfer to "
+                            + target.getCurrency()
+                            + " account");
+        }
 
-        account.setBalance(account.getBalance().subtract(request.getAmount()));
-        AccountEntity saved = accountRepository.save(account);
+        AccountEntity debited = debitLocked(source, request.getAmount());
+        AccountEntity credited = creditLocked(target, request.getAmount());
+        publishWithdrawn(debited, request.getAmount(), request.getReference());
+        publishDeposited(credited, request.getAmount(), request.getReference());
+
+        AccountTransfer transfer =
+                accountTransferRepository.findById(request.getTransferId()).orElseThrow();
+        transfer.setCurrency(source.getCurrency());
+        transfer.setSourceBalanceAfter(debited.getBalance());
+        transfer.setTargetBalanceAfter(credited.getBalance());
 
         log.info(
-                "Withdrew {} {} from account {} (ref: {})",
+                "Transferred {} {} from account {} to account {} (ref: {})",
                 request.getAmount(),
-                saved.getCurrency(),
-                saved.getAccountNumber(),
+                source.getCurrency(),
+                source.getAccountNumber(),
+                target.getAccountNumber(),
                 request.getReference());
+        return accountMapper.toTransferResponse(transfer);
+    }
 
-        MoneyWithdrawnEvent event =
-                MoneyWithdrawnEvent.builder()
-                        .accountId(saved.getId())
-                        .accountNumber(saved.getAccountNumber())
-                        .amount(request.getAmount())
-                        .currency(saved.getCurrency())
-                        .newBalance(saved.getBalance())
-                        .reference(request.getReference())
-                        .eventType("MONEY_WITHDRAWN")
-                        .aggregateId(String.valueOf(saved.getId()))
-                        .build();
-        event.initDefaults();
+    @Transactional
+    public AccountTransferResponse voidTransfer(String transferId) {
+        if (accountTransferRepository.voidUnclaimed(transferId) > 0) {
+            log.info("Voided unclaimed transfer {}", transferId);
+        }
+        return accountMapper.toTransferResponse(
+                accountTransferRepository.findById(transferId).orElseThrow());
+    }
 
-        saveOutboxEvent("Account", String.valueOf(saved.getId()), "MONEY_WITHDRAWN", event);
+    @Transactional
+    public BulkPostingResponse postBatch(BulkPostingRequest request) {
+        List<PostingLeg> legs = request.getLegs();
+        Map<Long, AccountEntity> locked =
+                accountRepository
+                        .lockForPosting(
+                                legs.stream().map(PostingLeg::getAccountId).distinct().toList())
+                        .stream()
+                        .collect(Collectors.toMap(AccountEntity::getId, Function.identity()));
+        for (AccountEntity account : locked.values()) {
+            if (account.isStriped()) {
+                account.setBalance(
+                        account.getBalance().add(accountRepository.stripeBalance(account.getId())));
+            }
+        }
 
-        return accountMapper.toResponse(saved);
+        Map<Long, BigDecimal> netChanges = new LinkedHashMap<>();
+        List<OutboxEvent> events = new ArrayList<>(legs.size());
+        List<PostingLegResult> results = new ArrayList<>(legs.size());
+        for (int index = 0; index < legs.size(); index++) {
+            PostingLeg leg = legs.get(index);
+            PostingLegResult.PostingLegResultBuilder result =
+                    PostingLegResult.builder()
+                            .index(index)
+                            .accountId(leg.getAccountId())
+                            .amount(leg.getAmount())
+                            .reference(leg.getReference());
+            try {
+                AccountEntity account = lockedAccount(locked, leg.getAccountId());
+                events.add(applyLeg(account, leg));
+                netChanges.merge(account.getId(), leg.getAmount(), BigDecimal::add);
+                result.status(PostingLegStatus.APPLIED).balanceAfter(account.getBalance());
+            } catch (BusinessException | ResourceNotFoundException e) {
+                result.status(PostingLegStatus.REJECTED).reason(e.getMessage());
+            }
+            results.add(result.build());
+        }
+
+        accountRepository.applyPostings(netChanges);
+        outboxEventRepository.insertAll(events);
+        netChanges.keySet().forEach(accountCache::evictAccount);
+
+        int applied = events.size();
+        log.info(
+                "Posted bulk batch: {} legs applied, {} rejected across {} accounts",
+                applied,
+                legs.size() - applied,
+                netChanges.size());
+        return BulkPostingResponse.builder()
+                .applied(applied)
+                .rejected(legs.size() - applied)
+                .results(results)
+                .build();
     }
 
     @Transactional
-    public AccountResponse creditAccount(Long accountId, BigDecimal amount, String reference) {
+    public AccountResponse configureBalanceStripes(Long id, int stripes) {
+        AccountEntity account = findAccountForStatusChange(id);
+        if (account.getStatus() == AccountStatus.CLOSED) {
+            throw new BusinessException("Cannot stripe a closed account");
+        }
+
+        accountRepository.consolidateStripes(id);
+        accountRepository.resetStripes(id, stripes);
+        accountCache.evictAccount(id);
+        log.info(
+                "Configured {} balance stripes for account {}",
+                stripes,
+                account.getAccountNumber());
+        return toResponse(findCurrentAccount(id));
+    }
+
+    @Transactional
+    public AccountResponse consolidateBalanceStripes(Long id) {
+        AccountEntity consolidated =
+                accountRepository
+                        .consolidateStripes(id)
+                        .orElseThrow(
+                                () ->
+                                        new ResourceNotFoundException(
+                                                "Account not found with ID: " + id));
+        return toResponse(consolidated);
+    }
+
+    private AccountEntity credit(Long accountId, BigDecimal amount) {
+        Optional<AccountEntity> credited = accountRepository.applyCredit(accountId, amount);
+        if (credited.isPresent()) {
+            return credited.get();
+        }
+
         AccountEntity account =
                 accountRepository
-                        .findById(accountId)
+                        .findCurrentForCredit(accountId)
                         .orElseThrow(
                                 () ->
                                         new ResourceNotFoundException(
                                                 "Account not found with ID: " + accountId));
-
         validateAccountActive(account);
 
-        account.setBalance(account.getBalance().add(amount));
-        AccountEntity saved = accountRepository.save(account);
-
-        log.info(
-                "Credited {} {} to account {} (ref: {})",
-                amount,
-                saved.getCurrency(),
-                saved.getAccountNumber(),
-                reference);
-
-        MoneyDepositedEvent event =
-                MoneyDepositedEvent.builder()
-                        .accountId(saved.getId())
-                        .accountNumber(saved.getAccountNumber())
-                        .amount(amount)
-                        .currency(saved.getCurrency())
-                        .newBalance(saved.getBalance())
-                        .reference(reference)
-                        .eventType("MONEY_DEPOSITED")
-                        .aggregateId(String.valueOf(saved.getId()))
-                        .build();
-        event.initDefaults();
-
-        saveOutboxEvent("Account", String.valueOf(saved.getId()), "MONEY_DEPOSITED", event);
-
-        return accountMapper.toResponse(saved);
+        if (!account.isStriped()) {
+            throw new BusinessException(
+                    "Account " + account.getAccountNumber() + " could not be credited");
+        }
+        return creditLocked(account, amount);
     }
 
-    @Transactional
-    public AccountResponse debitAccount(Long accountId, BigDecimal amount, String reference) {
+    private AccountEntity debit(Long accountId, BigDecimal amount) {
+        Optional<AccountEntity> debited = accountRepository.applyDebit(accountId, amount);
+        if (debited.isPresent()) {
+            return debited.get();
+        }
+
         AccountEntity account =
                 accountRepository
-                        .findById(accountId)
+                        .findCurrentForDebit(accountId)
                         .orElseThrow(
                                 () ->
                                         new ResourceNotFoundException(
                                                 "Account not found with ID: " + accountId));
-
         validateAccountActive(account);
+
+        if (!account.isStriped()) {
+            validateSufficientBalance(account, amount);
+            throw new BusinessException(
+                    "Account " + account.getAccountNumber() + " could not be debited");
+        }
+        return debitLocked(account, amount);
+    }
+
+    private AccountEntity creditLocked(AccountEntity account, BigDecimal amount) {
+        if (!account.isStriped()) {
+            return accountRepository.applyCredit(account.getId(), amount).orElseThrow();
+        }
+
+        int stripe = ThreadLocalRandom.current().nextInt(account.getBalanceStripes());
+        if (!accountRepository.applyStripeCredit(account.getId(), stripe, amount)) {
+            throw new BusinessException(
+                    "Balance stripe "
+                            + stripe
+                            + " missing for account "
+                            + account.getAccountNumber());
+        }
+        // Credits to other stripes do not wait for this one, so there is no single balance this
+        // posting produced. The total read here includes this credit and anything committed
+        // before the read, possibly other credits too; it is not an exact post-balance.
+        account.setBalance(accountRepository.totalBalance(account.getId()));
+        return account;
+    }
+
+    private AccountEntity debitLocked(AccountEntity account, BigDecimal amount) {
+        BigDecimal striped =
+                account.isStriped()
+                        ? accountRepository.stripeBalance(account.getId())
+                        : BigDecimal.ZERO;
+        account.setBalance(account.getBalance().add(striped));
         validateSufficientBalance(account, amount);
 
-        account.setBalance(account.getBalance().subtract(amount));
-        AccountEntity saved = accountRepository.save(account);
+        AccountEntity saved =
+                accountRepository.applyReservedDebit(account.getId(), amount).orElseThrow();
+        saved.setBalance(saved.getBalance().add(striped));
+        return saved;
+    }
 
-        log.info(
-                "Debited {} {} from account {} (ref: {})",
-                amount,
-                saved.getCurrency(),
-                saved.getAccountNumber(),
-                reference);
+    private OutboxEvent applyLeg(AccountEntity account, PostingLeg leg) {
+        validateAccountActive(account);
+        BigDecimal amount = leg.getAmount();
+        if (amount.signum() == 0) {
+            throw new BusinessException("Posting amount must not be zero");
+        }
 
-        MoneyWithdrawnEvent event =
-                MoneyWithdrawnEvent.builder()
-                        .accountId(saved.getId())
-                        .accountNumber(saved.getAccountNumber())
-                        .amount(amount)
-                        .currency(saved.getCurrency())
-                        .newBalance(saved.getBalance())
-                        .reference(reference)
-                        .eventType("MONEY_WITHDRAWN")
-                        .aggregateId(String.valueOf(saved.getId()))
-                        .build();
-        event.initDefaults();
+        if (amount.signum() > 0) {
+            account.setBalance(account.getBalance().add(amount));
+            return depositedOutboxEvent(account, amount, leg.getReference());
+        }
 
-        saveOutboxEvent("Account", String.valueOf(saved.getId()), "MONEY_WITHDRAWN", event);
+        BigDecimal debit = amount.negate();
+        validateSufficientBalance(account, debit);
+        account.setBalance(account.getBalance().subtract(debit));
+        return withdrawnOutboxEvent(account, debit, leg.getReference());
+    }
 
-        return accountMapper.toResponse(saved);
+    private AccountTransferResponse replayTransfer(AccountTransferRequest request) {
+        AccountTransfer existing =
+                accountTransferRepository.findById(request.getTransferId()).orElseThrow();
+        if (existing.getStatus() == AccountTransferStatus.VOIDED) {
+            throw new DuplicateResourceException(
+                    "Transfer " + request.getTransferId() + " has been voided");
+        }
+        if (!existing.getSourceAccountId().equals(request.getSourceAccountId())
+                || !existing.getTargetAccountId().equals(request.getTargetAccountId())
+                || existing.getAmount().compareTo(request.getAmount()) != 0) {
+            throw new DuplicateResourceException(
+                    "Transfer "
+                            + request.getTransferId()
+                            + " was already applied with other details");
+        }
+        return accountMapper.toTransferResponse(existing);
     }
 
-    @Transactional
-    public AccountResponse freezeAccount(Long id) {
-        AccountEntity account =
-                accountRepository
-                        .findById(id)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Account not found with ID: " + id));
+    // Single-leg postings share account_transfers with transfers, so transaction-service can
+    // void a posting it lost track of exactly as it voids a transfer
+    private void recordPosting(String postingId, AccountEntity account, boolean credit) {
+        if (postingId == null) {
+            return;
+        }
+        AccountTransfer posting = accountTransferRepository.findById(postingId).orElseThrow();
+        posting.setCurrency(account.getCurrency());
+        if (credit) {
+            posting.setTargetBalanceAfter(account.getBalance());
+        } else {
+            posting.setSourceBalanceAfter(account.getBalance());
+        }
+    }
 
-        if (account.getStatus() == AccountStatus.CLOSED) {
-            throw new BusinessException("Cannot freeze a closed account");
+    private AccountResponse replayPosting(
+            String postingId, Long accountId, BigDecimal amount, boolean credit) {
+        AccountTransfer existing = accountTransferRepository.findById(postingId).orElseThrow();
+        if (existing.getStatus() == AccountTransferStatus.VOIDED) {
+            throw new DuplicateResourceException("Posting " + postingId + " has been voided");
         }
+        Long postedAccountId =
+                credit ? existing.getTargetAccountId() : existing.getSourceAccountId();
+        if (!accountId.equals(postedAccountId) || existing.getAmount().compareTo(amount) != 0) {
+            throw new DuplicateResourceException(
+                    "Posting " + postingId + " was already applied with other details");
+        }
+        AccountResponse response = accountMapper.toResponse(findCurrentAccount(accountId));
+        response.setBalance(
+                credit ? existing.getTargetBalanceAfter() : existing.getSourceBalanceAfter());
+        return response;
+    }
 
-        account.setStatus(AccountStatus.FROZEN);
-        AccountEntity saved = accountRepository.save(account);
-        log.info("Frozen account {}", saved.getAccountNumber());
-        return accountMapper.toResponse(saved);
+    private AccountEntity lockedAccount(Map<Long, AccountEntity> locked, Long accountId) {
+        AccountEntity account = locked.get(accountId);
+        if (account == null) {
+            throw new ResourceNotFoundException("Account not found with ID: " + accountId);
+        }
+        return account;
     }
 
-    @Transactional
-    public AccountResponse closeAccount(Long id) {
-        AccountEntity account =
-                accountRepository
-                        .findById(id)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Account not found with ID: " + id));
+    private AccountEntity findCurrentAccount(Long accountId) {
+        return accountRepository
+                .findCurrent(accountId)
+                .orElseThrow(
+                        () ->
+                                new ResourceNotFoundException(
+                                        "Account not found with ID: " + accountId));
+    }
 
-        if (account.getBalance().compareTo(BigDecimal.ZERO) != 0) {
-            throw new BusinessException(
-                    "Cannot close account with non-zero balance. Current balance: "
-                            + account.getBalance());
+    private AccountEntity findAccountForStatusChange(Long accountId) {
+        return accountRepository
+                .findCurrentForStatusChange(accountId)
+                .orElseThrow(
+                        () ->
+                                new ResourceNotFoundException(
+                                        "Account not found with ID: " + accountId));
+    }
+
+    private AccountResponse toResponse(AccountEntity account) {
+        AccountResponse response = accountMapper.toResponse(account);
+        if (account.isStriped()) {
+            response.setBalance(accountRepository.totalBalance(account.getId()));
         }
+        return response;
+    }
 
-        account.setStatus(AccountStatus.CLOSED);
-        AccountEntity saved = accountRepository.save(account);
-        log.info("Closed account {}", saved.getAccountNumber());
-        return accountMapper.toResponse(saved);
+    private void publishDeposited(AccountEntity account, BigDecimal amount, String reference) {
+        saveOutboxEvent(depositedOutboxEvent(account, amount, reference));
+    }
+
+    private void publishWithdrawn(AccountEntity account, BigDecimal amount, String reference) {
+        saveOutboxEvent(withdrawnOutboxEvent(account, amount, reference));
+    }
+
+    private OutboxEvent depositedOutboxEvent(
+            AccountEntity account, BigDecimal amount, String reference) {
+        MoneyDepositedEvent event =
+                MoneyDepositedEvent.builder()
+                        .accountId(account.getId())
+                        .accountNumber(account.getAccountNumber())
+                        .amount(amount)
+                        .currency(account.getCurrency())
+                        .newBalance(account.getBalance())
+                        .reference(reference)
+                        .eventType("MONEY_DEPOSITED")
+                        .aggregateId(String.valueOf(account.getId()))
+                        .build();
+        event.initDefaults();
+
+        return toOutboxEvent("Account", String.valueOf(account.getId()), "MONEY_DEPOSITED", event);
+    }
+
+    private OutboxEvent withdrawnOutboxEvent(
+            AccountEntity account, BigDecimal amount, String reference) {
+        MoneyWithdrawnEvent event =
+                MoneyWithdrawnEvent.builder()
+                        .accountId(account.getId())
+                        .accountNumber(account.getAccountNumber())
+                        .amount(amount)
+                        .currency(account.getCurrency())
+                        .newBalance(account.getBalance())
+                        .reference(reference)
+                        .eventType("MONEY_WITHDRAWN")
+                        .aggregateId(String.valueOf(account.getId()))
+                        .build();
+        event.initDefaults();
+
+        return toOutboxEvent("Account", String.valueOf(account.getId()), "MONEY_WITHDRAWN", event);
     }
 
     private void validateAccountActive(AccountEntity account) {
         if (account.getStatus() != AccountStatus.ACTIVE) {
             throw new BusinessException(
-                    "Account " + account.getAccountNumber() + " is not active. Status: "
+                    "Account "
+                            + account.getAccountNumber()
+                            + " is not active. Status: "
                             + account.getStatus());
         }
     }
 
     private void validateSufficientBalance(AccountEntity account, BigDecimal amount) {
-        BigDecimal availableBalance = account.getBalance();
+        Money availableBalance = Money.of(account.getBalance(), account.getCurrency());
         if (account.isOverdraftEnabled()) {
-            availableBalance = availableBalance.add(account.getOverdraftLimit());
+            availableBalance =
+                    availableBalance.add(
+                            Money.of(account.getOverdraftLimit(), account.getCurrency()));
         }
 
-        if (availableBalance.compareTo(amount) < 0) {
+        Money requested = Money.of(amount, account.getCurrency());
+        if (availableBalance.isLessThan(requested)) {
             throw new BusinessException(
-                    "Insufficient balance. Available: " + availableBalance
-                            + ", requested: " + amount);
+                    "Insufficient balance. Available: "
+                            + availableBalance.toBigDecimal()
+                            + ", requested: "
+                            + amount);
         }
     }
 
@@ -335,23 +685,32 @@ public class AccountService {
         String accountNumber;
         do {
             accountNumber =
-                    ACCOUNT_NUMBER_PREFIX + String.format("%010d", RANDOM.nextLong(10_000_000_000L));
+                    ACCOUNT_NUMBER_PREFIX
+                            + String.format("%010d", RANDOM.nextLong(10_000_000_000L));
         } while (accountRepository.existsByAccountNumber(accountNumber));
         return accountNumber;
     }
 
     private void saveOutboxEvent(
             String aggregateType, String aggregateId, String eventType, Object event) {
+        saveOutboxEvent(toOutboxEvent(aggregateType, aggregateId, eventType, event));
+    }
+
+    private void saveOutboxEvent(OutboxEvent outboxEvent) {
+        outboxEventRepository.save(outboxEvent);
+        accountCache.evictAccount(Long.valueOf(outboxEvent.getAggregateId()));
+    }
+
+    private OutboxEvent toOutboxEvent(
+            String aggregateType, String aggregateId, String eventType, Object event) {
         try {
             String payload = objectMapper.writeValueAsString(event);
-            OutboxEvent outboxEvent =
-                    OutboxEvent.builder()
-                            .aggregateType(aggregateType)
-                            .aggregateId(aggregateId)
-                            .eventType(eventType)
-                            .payload(payload)
-                            .build();
-            outboxEventRepository.save(outboxEvent);
+            return OutboxEvent.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .eventType(eventType)
+                    .payload(payload)
+                    .build();
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize outbox event: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to serialize outbox event", e);
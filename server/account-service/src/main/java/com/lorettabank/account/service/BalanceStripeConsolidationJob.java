@@ -0,0 +1,30 @@
+package com.lorettabank.account.service;
+
+import com.lorettabank.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceStripeConsolidationJob {
+
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+
+    @Scheduled(fixedDelayString = "${account.striping.consolidation-interval-ms:5000}")
+    public void consolidate() {
+        for (Long accountId : accountRepository.findStripedAccountIds()) {
+            try {
+                accountService.consolidateBalanceStripes(accountId);
+            } catch (Exception e) {
+                log.warn(
+                        "Failed to consolidate balance stripes for account {}: {}",
+                        accountId,
+                        e.getMessage());
+            }
+        }
+    }
+}
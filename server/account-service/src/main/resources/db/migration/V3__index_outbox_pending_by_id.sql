@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_outbox_unpublished;
+
+CREATE INDEX idx_outbox_unpublished ON outbox_events(id) WHERE published = false;
@@ -0,0 +1 @@
+CREATE PUBLICATION outbox_publication FOR TABLE outbox_events;
@@ -0,0 +1,10 @@
+ALTER TABLE accounts ADD COLUMN balance_stripes INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE account_balance_stripes (
+    account_id BIGINT NOT NULL REFERENCES accounts(id),
+    stripe INTEGER NOT NULL,
+    balance NUMERIC(19,4) NOT NULL DEFAULT 0,
+    PRIMARY KEY (account_id, stripe)
+);
+
+CREATE INDEX idx_accounts_striped ON accounts(id) WHERE balance_stripes > 0;
@@ -0,0 +1,12 @@
+CREATE TABLE account_transfers (
+    transfer_id VARCHAR(36) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    source_account_id BIGINT,
+    target_account_id BIGINT,
+    amount NUMERIC(19,4),
+    currency VARCHAR(3),
+    reference VARCHAR(100),
+    source_balance_after NUMERIC(19,4),
+    target_balance_after NUMERIC(19,4),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
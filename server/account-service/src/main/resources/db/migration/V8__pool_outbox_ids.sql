@@ -0,0 +1,2 @@
+-- Hibernate allocates ids in blocks of 50 from this sequence so inserts can be batched
+ALTER SEQUENCE outbox_events_id_seq INCREMENT BY 50;
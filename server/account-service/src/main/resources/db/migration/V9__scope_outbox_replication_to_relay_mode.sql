@@ -0,0 +1,13 @@
+-- The replication relay now creates the outbox publication on start and streams from a
+-- temporary slot. Drop the publication unless the relay runs in replication mode, and drop the
+-- permanent slot earlier releases created: left idle, it retains WAL without bound.
+DO $$
+BEGIN
+    IF '${outbox_relay_mode}' <> 'replication' THEN
+        DROP PUBLICATION IF EXISTS ${outbox_publication};
+    END IF;
+    PERFORM pg_drop_replication_slot(slot_name)
+    FROM pg_replication_slots
+    WHERE slot_name = '${outbox_slot_name}' AND NOT active AND NOT temporary;
+END
+$$;
@@ -0,0 +1,45 @@
+package com.lorettabank.account.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lorettabank.account.dto.AccountResponse;
+import com.lorettabank.account.entity.AccountStatus;
+import com.lorettabank.account.entity.AccountType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AccountCacheCodecTest {
+
+    @Test
+    void accountShouldRoundTrip() {
+        AccountResponse account =
+                AccountResponse.builder()
+                        .id(42L)
+                        .accountNumber("LOR0123456789")
+                        .customerId(7L)
+                        .accountType(AccountType.SAVINGS)
+                        .currency("ZAR")
+                        .balance(new BigDecimal("-1250.5000"))
+                        .overdraftEnabled(true)
+                        .overdraftLimit(new BigDecimal("5000.0000"))
+                        .balanceStripes(8)
+                        .status(AccountStatus.FROZEN)
+                        .createdAt(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000))
+                        .updatedAt(null)
+                        .build();
+
+        byte[] encoded = AccountCacheCodec.encodeAccount(account);
+
+        assertThat(AccountCacheCodec.decodeAccount(encoded)).isEqualTo(account);
+        assertThat(encoded.length).isLessThan(100);
+    }
+
+    @Test
+    void idsShouldRoundTrip() {
+        List<Long> ids = List.of(3L, 1L, Long.MAX_VALUE);
+
+        assertThat(AccountCacheCodec.decodeIds(AccountCacheCodec.encodeIds(ids))).isEqualTo(ids);
+    }
+}
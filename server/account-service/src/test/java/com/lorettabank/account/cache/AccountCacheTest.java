@@ -0,0 +1,177 @@
+package com.lorettabank.account.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.lorettabank.account.dto.AccountResponse;
+import com.lorettabank.account.entity.AccountStatus;
+import com.lorettabank.account.entity.AccountType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class AccountCacheTest {
+
+    private final Map<String, byte[]> redis = new ConcurrentHashMap<>();
+
+    private AccountCache cache;
+    private AccountCache otherNode;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, byte[]> template = mock(RedisTemplate.class);
+        ValueOperations<String, byte[]> values = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        when(values.increment(anyString()))
+                .thenAnswer(
+                        inv -> {
+                            String key = inv.getArgument(0);
+                            long next =
+                                    Long.parseLong(utf8(redis.getOrDefault(key, bytes("0")))) + 1;
+                            redis.put(key, bytes(String.valueOf(next)));
+                            return next;
+                        });
+        when(values.multiGet(anyList()))
+                .thenAnswer(
+                        inv -> inv.<List<String>>getArgument(0).stream().map(redis::get).toList());
+        when(template.delete(anyString()))
+                .thenAnswer(inv -> redis.remove(inv.<String>getArgument(0)) != null);
+        when(template.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenAnswer(
+                        inv -> {
+                            List<String> keys = inv.getArgument(1);
+                            String generation = utf8(redis.getOrDefault(keys.get(1), bytes("0")));
+                            if (!generation.equals(utf8(inv.getArgument(2)))) {
+                                return 0L;
+                            }
+                            redis.put(keys.get(0), inv.getArgument(3));
+                            return 1L;
+                        });
+
+        ObjectProvider<RedisTemplate<String, byte[]>> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(template);
+        cache = new AccountCache(provider, new SimpleMeterRegistry(), 100, 30_000, 300_000);
+        otherNode = new AccountCache(provider, new SimpleMeterRegistry(), 100, 30_000, 300_000);
+    }
+
+    @Test
+    void shouldNotWriteBackAccountLoadedBeforeConcurrentEviction() {
+        AccountResponse before = account(new BigDecimal("100.0000"));
+        AccountResponse after = account(new BigDecimal("40.0000"));
+        AtomicInteger loads = new AtomicInteger();
+
+        AccountResponse loaded =
+                cache.getAccount(
+                        1L,
+                        () -> {
+                            if (loads.incrementAndGet() == 1) {
+                                // a debit commits on another node between this read and
+                                // the cache write-back
+                                otherNode.evictAccount(1L);
+                                return before;
+                            }
+                            return after;
+                        });
+
+        assertThat(loaded).isEqualTo(after);
+        assertThat(loads).hasValue(2);
+        assertThat(AccountCacheCodec.decodeAccount(redis.get("account-cache:id:1")))
+                .isEqualTo(after);
+        assertThat(cache.getAccount(1L, () -> before)).isEqualTo(after);
+    }
+
+    @Test
+    void shouldWriteBackWhenNoEvictionRaced() {
+        AccountResponse account = account(new BigDecimal("100.0000"));
+
+        cache.getAccount(1L, () -> account);
+
+        assertThat(AccountCacheCodec.decodeAccount(redis.get("account-cache:id:1")))
+                .isEqualTo(account);
+    }
+
+    @Test
+    void shouldLoadColdAccountsInOneCall() {
+        cache.getAccount(1L, () -> account(1L, new BigDecimal("100.0000")));
+        List<List<Long>> loads = new ArrayList<>();
+
+        List<AccountResponse> accounts =
+                cache.getAccounts(
+                        List.of(1L, 2L, 3L),
+                        missing -> {
+                            loads.add(missing);
+                            return missing.stream()
+                                    .map(id -> account(id, new BigDecimal("50.0000")))
+                                    .toList();
+                        });
+
+        assertThat(accounts).extracting(AccountResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThat(loads).containsExactly(List.of(2L, 3L));
+        assertThat(redis).containsKeys("account-cache:id:2", "account-cache:id:3");
+        assertThat(cache.getAccount(2L, () -> account(2L, BigDecimal.ZERO)).getBalance())
+                .isEqualByComparingTo("50.0000");
+    }
+
+    @Test
+    void shouldNotWriteBackBatchLoadedAccountEvictedMidLoad() {
+        List<AccountResponse> accounts =
+                cache.getAccounts(
+                        List.of(2L, 3L),
+                        missing -> {
+                            otherNode.evictAccount(2L);
+                            return missing.stream()
+                                    .map(id -> account(id, new BigDecimal("50.0000")))
+                                    .toList();
+                        });
+
+        assertThat(accounts).hasSize(2);
+        assertThat(redis).doesNotContainKey("account-cache:id:2");
+        assertThat(redis).containsKey("account-cache:id:3");
+        assertThat(cache.getAccount(2L, () -> account(2L, new BigDecimal("40.0000"))).getBalance())
+                .isEqualByComparingTo("40.0000");
+    }
+
+    private static AccountResponse account(BigDecimal balance) {
+        return account(1L, balance);
+    }
+
+    private static AccountResponse account(Long id, BigDecimal balance) {
+        return AccountResponse.builder()
+                .id(id)
+                .accountNumber("LOR000000000" + id)
+                .customerId(7L)
+                .accountType(AccountType.CHECKING)
+                .currency("ZAR")
+                .balance(balance)
+                .overdraftEnabled(false)
+                .overdraftLimit(BigDecimal.ZERO)
+                .balanceStripes(1)
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String utf8(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
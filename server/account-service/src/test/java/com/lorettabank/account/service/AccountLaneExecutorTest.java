@@ -0,0 +1,141 @@
+package com.lorettabank.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lorettabank.shared.exception.BusinessException;
+import com.lorettabank.shared.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+class AccountLaneExecutorTest {
+
+    private final PlatformTransactionManager transactionManager =
+            mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AccountLaneExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.stop();
+        }
+    }
+
+    @Test
+    void shouldKeepLaneRunningAfterAnError() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        executor = startExecutor(1, 10);
+
+        assertThatThrownBy(
+                        () ->
+                                executor.execute(
+                                        1L,
+                                        () -> {
+                                            throw new StackOverflowError();
+                                        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(executor.execute(1L, () -> "still running")).isEqualTo("still running");
+    }
+
+    @Test
+    void shouldRejectOperationsWhenTheLaneIsFull() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        executor = startExecutor(1, 1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> running =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                executor.execute(
+                                        1L,
+                                        () -> {
+                                            blocked.countDown();
+                                            awaitUninterruptibly(release);
+                                            return "first";
+                                        }));
+        blocked.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued =
+                CompletableFuture.supplyAsync(() -> executor.execute(1L, () -> "second"));
+        while (meterRegistry.get("account.lane.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> executor.execute(1L, () -> "third"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    @Test
+    void shouldRollBackOnlyTheRejectedOperationOfABatch() throws Exception {
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        executor = startExecutor(1, 10);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> running =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                executor.execute(
+                                        1L,
+                                        () -> {
+                                            blocked.countDown();
+                                            awaitUninterruptibly(release);
+                                            return "first";
+                                        }));
+        blocked.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> rejected =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                executor.execute(
+                                        2L,
+                                        () -> {
+                                            throw new BusinessException("Insufficient funds");
+                                        }));
+        CompletableFuture<String> applied =
+                CompletableFuture.supplyAsync(() -> executor.execute(2L, () -> "applied"));
+        while (meterRegistry.get("account.lane.queue.depth").gauge().value() < 2) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(applied.get(5, TimeUnit.SECONDS)).isEqualTo("applied");
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BusinessException.class);
+        verify(status).rollbackToSavepoint(any());
+        verify(status, never()).setRollbackOnly();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AccountLaneExecutor startExecutor(int laneCount, int queueCapacity) {
+        AccountLaneExecutor started =
+                new AccountLaneExecutor(
+                        transactionManager, meterRegistry, laneCount, queueCapacity, 32, 10, 5_000);
+        started.start();
+        return started;
+    }
+}
@@ -0,0 +1,309 @@
+package com.lorettabank.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lorettabank.account.cache.AccountCache;
+import com.lorettabank.account.dto.AccountTransferRequest;
+import com.lorettabank.account.dto.AccountTransferResponse;
+import com.lorettabank.account.dto.BulkPostingRequest;
+import com.lorettabank.account.dto.BulkPostingResponse;
+import com.lorettabank.account.dto.PostingLeg;
+import com.lorettabank.account.dto.PostingLegResult;
+import com.lorettabank.account.dto.PostingLegStatus;
+import com.lorettabank.account.entity.AccountEntity;
+import com.lorettabank.account.entity.AccountStatus;
+import com.lorettabank.account.entity.AccountTransferStatus;
+import com.lorettabank.account.entity.AccountType;
+import com.lorettabank.account.mapper.AccountMapperImpl;
+import com.lorettabank.account.repository.AccountRepository;
+import com.lorettabank.shared.config.JacksonConfig;
+import com.lorettabank.shared.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "eureka.client.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    AccountService.class,
+    AccountLaneExecutor.class,
+    AccountCache.class,
+    AccountMapperImpl.class,
+    JacksonConfig.class,
+    SimpleMeterRegistry.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountServiceConcurrencyIntegrationTest {
+
+    private static final int THREADS = 32;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("loretta_account_test")
+                    .withUsername("loretta")
+                    .withPassword("loretta_secret");
+
+    @DynamicPropertySource
+    static void configureDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> true);
+    }
+
+    @Autowired private AccountService accountService;
+
+    @Autowired private AccountRepository accountRepository;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentCreditsAndDebitsShouldNotLoseUpdates() throws Exception {
+        AccountEntity account = createAccount("LOR0000000101", new BigDecimal("1000.0000"));
+
+        runConcurrently(
+                (thread, op) -> {
+                    if ((thread + op) % 2 == 0) {
+                        accountService.creditAccount(
+                                account.getId(), new BigDecimal("3.0000"), "CR-" + thread + op);
+                    } else {
+                        accountService.debitAccount(
+                                account.getId(), new BigDecimal("1.0000"), "DR-" + thread + op);
+                    }
+                });
+
+        int total = THREADS * OPERATIONS_PER_THREAD;
+        BigDecimal expected =
+                new BigDecimal("1000.0000").add(BigDecimal.valueOf(total / 2 * 3 - total / 2));
+        assertThat(balanceOf(account.getId())).isEqualByComparingTo(expected);
+        assertThat(outboxEventsFor(account.getId())).isEqualTo(total);
+    }
+
+    @Test
+    void concurrentDebitsShouldNeverOverdraw() throws Exception {
+        AccountEntity account = createAccount("LOR0000000102", new BigDecimal("100.0000"));
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(
+                (thread, op) -> {
+                    try {
+                        accountService.debitAccount(
+                                account.getId(), new BigDecimal("1.0000"), "DR-" + thread + op);
+                    } catch (BusinessException e) {
+                        rejected.incrementAndGet();
+                    }
+                });
+
+        assertThat(balanceOf(account.getId())).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(rejected.get()).isEqualTo(THREADS * OPERATIONS_PER_THREAD - 100);
+        assertThat(outboxEventsFor(account.getId())).isEqualTo(100);
+    }
+
+    @Test
+    void stripedAccountShouldKeepConsistentTotalWhileConsolidating() throws Exception {
+        AccountEntity account = createAccount("LOR0000000103", new BigDecimal("1000.0000"));
+        accountService.configureBalanceStripes(account.getId(), 8);
+
+        runConcurrently(
+                (thread, op) -> {
+                    if (thread == 0 && op % 10 == 0) {
+                        accountService.consolidateBalanceStripes(account.getId());
+                    }
+                    if ((thread + op) % 2 == 0) {
+                        accountService.creditAccount(
+                                account.getId(), new BigDecimal("3.0000"), "CR-" + thread + op);
+                    } else {
+                        accountService.debitAccount(
+                                account.getId(), new BigDecimal("1.0000"), "DR-" + thread + op);
+                    }
+                });
+
+        int total = THREADS * OPERATIONS_PER_THREAD;
+        BigDecimal expected =
+                new BigDecimal("1000.0000").add(BigDecimal.valueOf(total / 2 * 3 - total / 2));
+        assertThat(accountService.getAccount(account.getId()).getBalance())
+                .isEqualByComparingTo(expected);
+
+        accountService.consolidateBalanceStripes(account.getId());
+        assertThat(balanceOf(account.getId())).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void opposingTransfersShouldNeitherDeadlockNorLoseMoney() throws Exception {
+        AccountEntity first = createAccount("LOR0000000104", new BigDecimal("5000.0000"));
+        AccountEntity second = createAccount("LOR0000000105", new BigDecimal("5000.0000"));
+
+        runConcurrently(
+                (thread, op) -> {
+                    boolean forward = thread % 2 == 0;
+                    accountService.transfer(
+                            AccountTransferRequest.builder()
+                                    .transferId(UUID.randomUUID().toString())
+                                    .sourceAccountId(forward ? first.getId() : second.getId())
+                                    .targetAccountId(forward ? second.getId() : first.getId())
+                                    .amount(new BigDecimal(forward ? "2.0000" : "1.0000"))
+                                    .reference("TRF-" + thread + op)
+                                    .build());
+                });
+
+        BigDecimal net = BigDecimal.valueOf(THREADS / 2 * OPERATIONS_PER_THREAD);
+        assertThat(balanceOf(first.getId()))
+                .isEqualByComparingTo(new BigDecimal("5000.0000").subtract(net));
+        assertThat(balanceOf(second.getId()))
+                .isEqualByComparingTo(new BigDecimal("5000.0000").add(net));
+    }
+
+    @Test
+    void replayedTransferShouldApplyOnce() {
+        AccountEntity source = createAccount("LOR0000000106", new BigDecimal("100.0000"));
+        AccountEntity target = createAccount("LOR0000000107", BigDecimal.ZERO);
+        AccountTransferRequest request =
+                AccountTransferRequest.builder()
+                        .transferId(UUID.randomUUID().toString())
+                        .sourceAccountId(source.getId())
+                        .targetAccountId(target.getId())
+                        .amount(new BigDecimal("40.0000"))
+                        .reference("TRF-REPLAY")
+                        .build();
+
+        AccountTransferResponse applied = accountService.transfer(request);
+        AccountTransferResponse replayed = accountService.transfer(request);
+
+        assertThat(applied.getSourceBalanceAfter()).isEqualByComparingTo("60.0000");
+        assertThat(applied.getTargetBalanceAfter()).isEqualByComparingTo("40.0000");
+        assertThat(replayed.getStatus()).isEqualTo(AccountTransferStatus.APPLIED);
+        assertThat(replayed.getSourceBalanceAfter()).isEqualByComparingTo("60.0000");
+        assertThat(balanceOf(source.getId())).isEqualByComparingTo("60.0000");
+        assertThat(accountService.voidTransfer(request.getTransferId()).getStatus())
+                .isEqualTo(AccountTransferStatus.APPLIED);
+    }
+
+    @Test
+    void bulkPostingShouldApplyLegsInOrderAndRejectIndividually() {
+        AccountEntity employer = createAccount("LOR0000000108", new BigDecimal("250.0000"));
+        AccountEntity employee = createAccount("LOR0000000109", BigDecimal.ZERO);
+
+        BulkPostingResponse response =
+                accountService.postBatch(
+                        BulkPostingRequest.builder()
+                                .legs(
+                                        List.of(
+                                                leg(employer.getId(), "-100.0000", "PAY-1"),
+                                                leg(employee.getId(), "100.0000", "PAY-1"),
+                                                leg(employer.getId(), "-200.0000", "PAY-2"),
+                                                leg(employer.getId(), "-150.0000", "PAY-3"),
+                                                leg(employee.getId(), "150.0000", "PAY-3"),
+                                                leg(-1L, "10.0000", "PAY-4")))
+                                .build());
+
+        assertThat(response.getApplied()).isEqualTo(4);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(PostingLegResult::getStatus)
+                .containsExactly(
+                        PostingLegStatus.APPLIED,
+                        PostingLegStatus.APPLIED,
+                        PostingLegStatus.REJECTED,
+                        PostingLegStatus.APPLIED,
+                        PostingLegStatus.APPLIED,
+                        PostingLegStatus.REJECTED);
+        assertThat(response.getResults().get(3).getBalanceAfter()).isEqualByComparingTo("0.0000");
+        assertThat(balanceOf(employer.getId())).isEqualByComparingTo("0.0000");
+        assertThat(balanceOf(employee.getId())).isEqualByComparingTo("250.0000");
+        assertThat(outboxEventsFor(employer.getId())).isEqualTo(2);
+        assertThat(outboxEventsFor(employee.getId())).isEqualTo(2);
+    }
+
+    private AccountEntity createAccount(String accountNumber, BigDecimal balance) {
+        return accountRepository.save(
+                AccountEntity.builder()
+                        .accountNumber(accountNumber)
+                        .customerId(21L)
+                        .accountType(AccountType.CHECKING)
+                        .currency("ZAR")
+                        .balance(balance)
+                        .overdraftEnabled(false)
+                        .overdraftLimit(BigDecimal.ZERO)
+                        .status(AccountStatus.ACTIVE)
+                        .build());
+    }
+
+    private PostingLeg leg(Long accountId, String amount, String reference) {
+        return PostingLeg.builder()
+                .accountId(accountId)
+                .amount(new BigDecimal(amount))
+                .reference(reference)
+                .build();
+    }
+
+    private void runConcurrently(Operation operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    for (int op = 0; op < OPERATIONS_PER_THREAD; op++) {
+                                        operation.apply(thread, op);
+                                    }
+                                    return null;
+                                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BigDecimal balanceOf(Long accountId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, accountId);
+    }
+
+    private int outboxEventsFor(Long accountId) {
+        Integer count =
+                jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM outbox_events"
+                                + " WHERE aggregate_id = ? AND event_type LIKE 'MONEY_%'",
+                        Integer.class, String.valueOf(accountId));
+        return count != null ? count : 0;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void apply(int thread, int op);
+    }
+}
@@ -1,6 +1,8 @@
 package com.lorettabank.audit.config;
 
 import com.lorettabank.shared.event.DomainEvent;
+import com.lorettabank.shared.event.codec.DomainEventDeserializer;
+import com.lorettabank.shared.event.codec.EventCodecs;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -11,7 +13,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 
 @Configuration
 public class KafkaConsumerConfig {
@@ -20,23 +22,22 @@ public class KafkaConsumerConfig {
     private String bootstrapServers;
 
     @Bean
-    public ConsumerFactory<String, DomainEvent> consumerFactory() {
+    public ConsumerFactory<String, DomainEvent> consumerFactory(EventCodecs eventCodecs) {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "audit-service");
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.lorettabank.shared.event");
-        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, true);
-        return new DefaultKafkaConsumerFactory<>(props);
+        return new DefaultKafkaConsumerFactory<>(
+                props,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new DomainEventDeserializer(eventCodecs)));
     }
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, DomainEvent>
-            kafkaListenerContainerFactory() {
+            kafkaListenerContainerFactory(ConsumerFactory<String, DomainEvent> consumerFactory) {
         ConcurrentKafkaListenerContainerFactory<String, DomainEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
         return factory;
     }
 }
@@ -2,6 +2,7 @@ package com.lorettabank.audit.repository;
 
 import com.lorettabank.audit.entity.AuditLogEntity;
 import java.time.Instant;
+import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLogEntity, Long> {
 
-    boolean existsByEventId(String eventId);
+    boolean existsByEventId(UUID eventId);
 
     Page<AuditLogEntity> findByEventTypeOrderByOccurredAtDesc(String eventType, Pageable pageable);
 
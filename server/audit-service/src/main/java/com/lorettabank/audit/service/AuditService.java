@@ -9,6 +9,7 @@ import com.lorettabank.shared.dto.PagedResponse;
 import com.lorettabank.shared.event.DomainEvent;
 import com.lorettabank.shared.exception.ResourceNotFoundException;
 import java.time.Instant;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -33,14 +34,22 @@ public class AuditService {
             return;
         }
 
-        if (auditLogRepository.existsByEventId(event.getEventId())) {
+        UUID eventId;
+        try {
+            eventId = UUID.fromString(event.getEventId());
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping audit record because eventId {} is not a UUID", event.getEventId());
+            return;
+        }
+
+        if (auditLogRepository.existsByEventId(eventId)) {
             log.debug("Skipping already-recorded event {}", event.getEventId());
             return;
         }
 
         AuditLogEntity entity =
                 AuditLogEntity.builder()
-                        .eventId(event.getEventId())
+                        .eventId(eventId)
                         .eventType(event.getEventType())
                         .aggregateType(resolveAggregateType(event.getEventType()))
                         .aggregateId(event.getAggregateId())
@@ -124,7 +133,7 @@ public class AuditService {
     private AuditLogResponse toResponse(AuditLogEntity entity) {
         return AuditLogResponse.builder()
                 .id(entity.getId())
-                .eventId(entity.getEventId())
+                .eventId(entity.getEventId().toString())
                 .eventType(entity.getEventType())
                 .aggregateType(entity.getAggregateType())
                 .aggregateId(entity.getAggregateId())
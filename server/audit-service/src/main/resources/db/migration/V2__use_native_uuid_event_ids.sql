@@ -0,0 +1,2 @@
+-- Event ids are time-ordered UUIDv7 values stored as native uuid
+ALTER TABLE audit_logs ALTER COLUMN event_id TYPE uuid USING event_id::uuid;
@@ -1,12 +1,8 @@
 package com.lorettabank.customer.repository;
 
 import com.lorettabank.customer.entity.OutboxEvent;
-import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
-
-    List<OutboxEvent> findByPublishedFalse();
-}
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {}
@@ -0,0 +1,33 @@
+package com.lorettabank.customer.service;
+
+import com.lorettabank.shared.outbox.OutboxRetention;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRetentionJob {
+
+    private final OutboxRetention outboxRetention;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${outbox.retention.interval-ms:3600000}")
+    public void maintainPartitions() {
+        try {
+            outboxRetention.maintain();
+        } catch (Exception e) {
+            log.error("Outbox partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.retention.stats-interval-ms:30000}")
+    public void refreshStats() {
+        try {
+            outboxRetention.refreshStats();
+        } catch (Exception e) {
+            log.warn("Failed to refresh outbox statistics: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,5 @@
+DROP INDEX IF EXISTS idx_customer_outbox_unpublished;
+
+CREATE INDEX idx_customer_outbox_unpublished
+    ON outbox_events(id)
+    WHERE published = false;
@@ -0,0 +1,44 @@
+ALTER TABLE outbox_events RENAME TO outbox_events_archive_legacy;
+ALTER TABLE outbox_events_archive_legacy
+    RENAME CONSTRAINT outbox_events_pkey TO outbox_events_archive_legacy_pkey;
+ALTER SEQUENCE outbox_events_id_seq OWNED BY NONE;
+ALTER TABLE outbox_events_archive_legacy ALTER COLUMN id DROP DEFAULT;
+DROP INDEX idx_customer_outbox_unpublished;
+
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL DEFAULT nextval('outbox_events_id_seq'),
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    published BOOLEAN NOT NULL DEFAULT false,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE outbox_events_id_seq OWNED BY outbox_events.id;
+
+CREATE TABLE outbox_events_default PARTITION OF outbox_events DEFAULT;
+
+CREATE INDEX idx_customer_outbox_unpublished
+    ON outbox_events(id)
+    WHERE published = false;
+
+INSERT INTO outbox_events
+SELECT * FROM outbox_events_archive_legacy WHERE published = false;
+
+DELETE FROM outbox_events_archive_legacy WHERE published = false;
+
+CREATE TABLE outbox_events_archive (
+    id BIGINT NOT NULL,
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published BOOLEAN NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER PUBLICATION outbox_publication SET TABLE outbox_events;
+ALTER PUBLICATION outbox_publication SET (publish_via_partition_root = true);
@@ -1,11 +1,14 @@
 package com.lorettabank.reporting.client;
 
-import com.lorettabank.reporting.client.dto.PagedResponseView;
+import com.lorettabank.reporting.client.dto.BalanceAtView;
+import com.lorettabank.reporting.client.dto.CursorPageView;
 import com.lorettabank.reporting.client.dto.TransactionView;
 import com.lorettabank.shared.exception.BusinessException;
 import com.lorettabank.shared.security.JwtConstants;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
@@ -26,34 +29,81 @@ public class TransactionClient {
         this.transactionServiceWebClient = transactionServiceWebClient;
     }
 
-    public List<TransactionView> getAllTransactionsForAccount(
-            Long accountId, Long userId, String rolesHeader) {
+    public List<TransactionView> getTransactionsForAccount(
+            Long accountId, Instant from, Instant to, Long userId, String rolesHeader) {
         int page = 0;
+        String cursor = null;
         boolean last = false;
         List<TransactionView> aggregated = new java.util.ArrayList<>();
 
         while (!last && page < MAX_PAGES) {
-            PagedResponseView<TransactionView> response =
-                    fetchPage(accountId, page, PAGE_SIZE, userId, rolesHeader);
+            CursorPageView<TransactionView> response =
+                    fetchPage(accountId, cursor, from, to, userId, rolesHeader);
             if (response.getContent() != null) {
                 aggregated.addAll(response.getContent());
             }
-            last = response.isLast();
+            cursor = response.getNextCursor();
+            last = response.isLast() || cursor == null;
             page++;
         }
 
         return Collections.unmodifiableList(aggregated);
     }
 
-    private PagedResponseView<TransactionView> fetchPage(
-            Long accountId, int page, int size, Long userId, String rolesHeader) {
-        PagedResponseView<TransactionView> response =
+    public BalanceAtView getBalanceAt(Long accountId, Instant at, Long userId, String rolesHeader) {
+        BalanceAtView response =
                 transactionServiceWebClient.get()
                         .uri(
                                 uriBuilder ->
-                                        uriBuilder.path("/api/v1/transactions/account/{accountId}")
-                                                .queryParam("page", page)
-                                                .queryParam("size", size)
+                                        uriBuilder
+                                                .path(
+                                                        "/api/v1/transactions/account/{accountId}/balance")
+                                                .queryParam("at", at)
+                                                .build(accountId))
+                        .header(JwtConstants.HEADER_USER_ID, String.valueOf(userId))
+                        .header(JwtConstants.HEADER_USER_ROLES, rolesHeader)
+                        .retrieve()
+                        .onStatus(
+                                HttpStatusCode::isError,
+                                httpResponse ->
+                                        httpResponse
+                                                .bodyToMono(String.class)
+                                                .flatMap(
+                                                        body ->
+                                                                Mono.error(
+                                                                        new BusinessException(
+                                                                                "Failed to fetch balance for account "
+                                                                                        + accountId
+                                                                                        + ": "
+                                                                                        + body))))
+                        .bodyToMono(BalanceAtView.class)
+                        .block();
+
+        if (response == null) {
+            throw new BusinessException("Failed to fetch balance for account " + accountId);
+        }
+        return response;
+    }
+
+    private CursorPageView<TransactionView> fetchPage(
+            Long accountId,
+            String cursor,
+            Instant from,
+            Instant to,
+            Long userId,
+            String rolesHeader) {
+        CursorPageView<TransactionView> response =
+                transactionServiceWebClient.get()
+                        .uri(
+                                uriBuilder ->
+                                        uriBuilder
+                                                .path(
+                                                        "/api/v1/transactions/account/{accountId}/scroll")
+                                                .queryParamIfPresent(
+                                                        "cursor", Optional.ofNullable(cursor))
+                                                .queryParam("from", from)
+                                                .queryParam("to", to)
+                                                .queryParam("size", PAGE_SIZE)
                                                 .build(accountId))
                         .header(JwtConstants.HEADER_USER_ID, String.valueOf(userId))
                         .header(JwtConstants.HEADER_USER_ROLES, rolesHeader)
@@ -73,12 +123,12 @@ public class TransactionClient {
                                                                                         + body))))
                         .bodyToMono(
                                 new ParameterizedTypeReference<
-                                        PagedResponseView<TransactionView>>() {})
+                                        CursorPageView<TransactionView>>() {})
                         .block();
 
         return response != null
                 ? response
-                : PagedResponseView.<TransactionView>builder()
+                : CursorPageView.<TransactionView>builder()
                         .content(Collections.emptyList())
                         .last(true)
                         .build();
@@ -0,0 +1,20 @@
+package com.lorettabank.reporting.client.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceAtView {
+
+    private Long accountId;
+    private Instant at;
+    private BigDecimal balance;
+    private String currency;
+}
@@ -10,12 +10,10 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class PagedResponseView<T> {
+public class CursorPageView<T> {
 
     private List<T> content;
-    private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private String nextCursor;
     private boolean last;
 }
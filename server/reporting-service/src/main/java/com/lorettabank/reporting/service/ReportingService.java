@@ -17,11 +17,12 @@ import com.lorettabank.reporting.repository.StatementRepository;
 import com.lorettabank.shared.exception.BusinessException;
 import com.lorettabank.shared.exception.ForbiddenException;
 import com.lorettabank.shared.exception.ResourceNotFoundException;
+import com.lorettabank.shared.money.Money;
 import com.lorettabank.shared.security.JwtConstants;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
@@ -36,8 +37,6 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ReportingService {
 
-    private static final BigDecimal ZERO = BigDecimal.ZERO.setScale(4, RoundingMode.HALF_UP);
-
     private final StatementRepository statementRepository;
     private final AccountClient accountClient;
     private final CustomerClient customerClient;
@@ -53,9 +52,14 @@ public class ReportingService {
         AccountView account = accountClient.getAccount(request.getAccountId(), userId, rolesHeader);
         authorizeAccountAccess(account, userId, roles, rolesHeader);
 
+        Instant periodStart = request.getPeriodFrom().toInstant(ZoneOffset.UTC);
         List<TransactionView> transactions =
-                transactionClient.getAllTransactionsForAccount(
-                        request.getAccountId(), userId, rolesHeader);
+                transactionClient.getTransactionsForAccount(
+                        request.getAccountId(),
+                        periodStart,
+                        request.getPeriodTo().plusSeconds(1).toInstant(ZoneOffset.UTC),
+                        userId,
+                        rolesHeader);
 
         List<TransactionView> inPeriod =
                 transactions.stream()
@@ -63,25 +67,29 @@ public class ReportingService {
                         .sorted(Comparator.comparing(TransactionView::getCreatedAt))
                         .toList();
 
-        List<StatementLineItem> lineItems =
-                inPeriod.stream().map(tx -> toLineItem(tx, request.getAccountId())).toList();
-
-        BigDecimal totalCredits =
-                lineItems.stream()
-                        .filter(item -> "CREDIT".equals(item.getDirection()))
-                        .map(StatementLineItem::getAmount)
-                        .reduce(ZERO, BigDecimal::add)
-                        .setScale(4, RoundingMode.HALF_UP);
-        BigDecimal totalDebits =
-                lineItems.stream()
-                        .filter(item -> "DEBIT".equals(item.getDirection()))
-                        .map(StatementLineItem::getAmount)
-                        .reduce(ZERO, BigDecimal::add)
-                        .setScale(4, RoundingMode.HALF_UP);
-
-        BigDecimal closingBalance = safeScale(account.getBalance());
-        BigDecimal openingBalance =
-                closingBalance.subtract(totalCredits).add(totalDebits).setScale(4, RoundingMode.HALF_UP);
+        String currency = account.getCurrency();
+        Money totalCredits = Money.zero(currency);
+        Money totalDebits = Money.zero(currency);
+        List<StatementLineItem> lineItems = new ArrayList<>(inPeriod.size());
+        for (TransactionView tx : inPeriod) {
+            String direction = resolveDirection(tx, request.getAccountId());
+            Money amount = Money.of(tx.getAmount(), currency);
+            lineItems.add(toLineItem(tx, direction, amount));
+            if ("CREDIT".equals(direction)) {
+                totalCredits = totalCredits.add(amount);
+            } else {
+                totalDebits = totalDebits.add(amount);
+            }
+        }
+
+        Money openingBalance =
+                Money.of(
+                        transactionClient
+                                .getBalanceAt(
+                                        request.getAccountId(), periodStart, userId, rolesHeader)
+                                .getBalance(),
+                        currency);
+        Money closingBalance = openingBalance.add(totalCredits).subtract(totalDebits);
 
         StatementEntity entity =
                 StatementEntity.builder()
@@ -91,10 +99,10 @@ public class ReportingService {
                         .currency(account.getCurrency())
                         .periodFrom(request.getPeriodFrom())
                         .periodTo(request.getPeriodTo())
-                        .openingBalance(openingBalance)
-                        .closingBalance(closingBalance)
-                        .totalCredits(totalCredits)
-                        .totalDebits(totalDebits)
+                        .openingBalance(openingBalance.toBigDecimal())
+                        .closingBalance(closingBalance.toBigDecimal())
+                        .totalCredits(totalCredits.toBigDecimal())
+                        .totalDebits(totalDebits.toBigDecimal())
                         .transactionCount(lineItems.size())
                         .lineItemsJson(serializeLineItems(lineItems))
                         .build();
@@ -197,13 +205,14 @@ public class ReportingService {
         return !occurredAt.isBefore(periodFrom) && !occurredAt.isAfter(periodTo);
     }
 
-    private StatementLineItem toLineItem(TransactionView transaction, Long accountId) {
+    private StatementLineItem toLineItem(
+            TransactionView transaction, String direction, Money amount) {
         return StatementLineItem.builder()
                 .transactionId(transaction.getId())
                 .createdAt(transaction.getCreatedAt())
                 .type(transaction.getType())
-                .direction(resolveDirection(transaction, accountId))
-                .amount(safeScale(transaction.getAmount()))
+                .direction(direction)
+                .amount(amount.toBigDecimal())
                 .currency(transaction.getCurrency())
                 .description(transaction.getDescription())
                 .reference(transaction.getReference())
@@ -263,11 +272,4 @@ public class ReportingService {
     private String toRolesHeader(Set<String> roles) {
         return roles.stream().sorted().collect(Collectors.joining(","));
     }
-
-    private BigDecimal safeScale(BigDecimal value) {
-        if (value == null) {
-            return ZERO;
-        }
-        return value.setScale(4, RoundingMode.HALF_UP);
-    }
 }
@@ -0,0 +1,28 @@
+package com.lorettabank.shared.config;
+
+import com.lorettabank.shared.jpa.SavepointHibernateJpaDialect;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+@Configuration
+@ConditionalOnClass(name = "org.springframework.orm.jpa.JpaTransactionManager")
+public class JpaSavepointConfig {
+
+    // Runs after the transaction manager's afterPropertiesSet, which otherwise resets the dialect
+    // to the one exposed by the entity manager factory.
+    @Bean
+    public static BeanPostProcessor savepointJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JpaTransactionManager manager) {
+                    manager.setJpaDialect(new SavepointHibernateJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
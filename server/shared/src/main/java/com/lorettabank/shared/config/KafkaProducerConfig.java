@@ -1,9 +1,14 @@
 package com.lorettabank.shared.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lorettabank.shared.event.DomainEvent;
+import com.lorettabank.shared.event.codec.DomainEventSerializer;
+import com.lorettabank.shared.event.codec.EventCodec;
+import com.lorettabank.shared.event.codec.EventCodecs;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +16,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 @Configuration
 public class KafkaProducerConfig {
@@ -19,20 +23,49 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${events.format:json}")
+    private String eventFormat;
+
+    @Bean
+    public EventCodecs eventCodecs(ObjectMapper objectMapper) {
+        return new EventCodecs(objectMapper);
+    }
+
+    @Bean
+    public EventCodec eventCodec(EventCodecs eventCodecs) {
+        return eventCodecs.forFormat(eventFormat);
+    }
+
+    @Bean
+    public ProducerFactory<String, DomainEvent> producerFactory(EventCodec eventCodec) {
+        return new DefaultKafkaProducerFactory<>(
+                baseProducerProps(), new StringSerializer(), new DomainEventSerializer(eventCodec));
+    }
+
     @Bean
-    public ProducerFactory<String, DomainEvent> producerFactory() {
+    public KafkaTemplate<String, DomainEvent> kafkaTemplate(
+            ProducerFactory<String, DomainEvent> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> byteArrayProducerFactory() {
+        Map<String, Object> props = baseProducerProps();
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> byteArrayKafkaTemplate() {
+        return new KafkaTemplate<>(byteArrayProducerFactory());
+    }
+
+    private Map<String, Object> baseProducerProps() {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, true);
         props.put(ProducerConfig.ACKS_CONFIG, "all");
         props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        return new DefaultKafkaProducerFactory<>(props);
-    }
-
-    @Bean
-    public KafkaTemplate<String, DomainEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        return props;
     }
 }
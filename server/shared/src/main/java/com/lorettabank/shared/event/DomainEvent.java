@@ -2,8 +2,8 @@ package com.lorettabank.shared.event;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.lorettabank.shared.id.UuidV7;
 import java.time.Instant;
-import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -32,7 +32,7 @@ public abstract class DomainEvent {
     private String correlationId;
 
     public void initDefaults() {
-        if (eventId == null) eventId = UUID.randomUUID().toString();
+        if (eventId == null) eventId = UuidV7.generateString();
         if (occurredAt == null) occurredAt = Instant.now();
     }
 }
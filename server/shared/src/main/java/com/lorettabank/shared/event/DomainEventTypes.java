@@ -0,0 +1,25 @@
+package com.lorettabank.shared.event;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public final class DomainEventTypes {
+
+    private static final Map<String, Class<?>> TYPES =
+            Arrays.stream(DomainEvent.class.getAnnotation(JsonSubTypes.class).value())
+                    .collect(
+                            Collectors.toUnmodifiableMap(
+                                    JsonSubTypes.Type::name, JsonSubTypes.Type::value));
+
+    private DomainEventTypes() {}
+
+    public static Class<?> classFor(String eventType) {
+        Class<?> type = TYPES.get(eventType);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+        return type;
+    }
+}
@@ -0,0 +1,37 @@
+package com.lorettabank.shared.event.codec;
+
+import com.lorettabank.shared.event.DomainEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class DomainEventDeserializer implements Deserializer<DomainEvent> {
+
+    private final EventCodecs codecs;
+
+    public DomainEventDeserializer(EventCodecs codecs) {
+        this.codecs = codecs;
+    }
+
+    @Override
+    public DomainEvent deserialize(String topic, byte[] data) {
+        return data != null ? codecs.forFormat(EventCodecs.JSON).decode(data) : null;
+    }
+
+    @Override
+    public DomainEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            int version = EventHeaders.schemaVersion(headers);
+            if (version > EventHeaders.CURRENT_SCHEMA_VERSION) {
+                throw new SerializationException(
+                        "Unsupported event schema version " + version + " on " + topic);
+            }
+            return codecs.forFormat(EventHeaders.format(headers)).decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException(e.getMessage(), e);
+        }
+    }
+}
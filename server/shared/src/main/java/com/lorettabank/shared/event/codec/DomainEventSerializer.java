@@ -0,0 +1,28 @@
+package com.lorettabank.shared.event.codec;
+
+import com.lorettabank.shared.event.DomainEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class DomainEventSerializer implements Serializer<DomainEvent> {
+
+    private final EventCodec codec;
+
+    public DomainEventSerializer(EventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, DomainEvent event) {
+        return event != null ? codec.encode(event) : null;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, DomainEvent event) {
+        if (event == null) {
+            return null;
+        }
+        EventHeaders.stamp(headers, codec.format(), event.getClass());
+        return codec.encode(event);
+    }
+}
@@ -0,0 +1,14 @@
+package com.lorettabank.shared.event.codec;
+
+import com.lorettabank.shared.event.DomainEvent;
+
+public interface EventCodec {
+
+    String format();
+
+    byte[] encode(DomainEvent event);
+
+    DomainEvent decode(byte[] payload);
+
+    byte[] transcodeJson(byte[] json);
+}
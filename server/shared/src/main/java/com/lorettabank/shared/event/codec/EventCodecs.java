@@ -0,0 +1,27 @@
+package com.lorettabank.shared.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+
+public class EventCodecs {
+
+    public static final String JSON = "json";
+    public static final String SMILE = "smile";
+
+    private final Map<String, EventCodec> codecs;
+
+    public EventCodecs(ObjectMapper objectMapper) {
+        this.codecs =
+                Map.of(
+                        JSON, new JsonEventCodec(objectMapper),
+                        SMILE, new SmileEventCodec(objectMapper));
+    }
+
+    public EventCodec forFormat(String format) {
+        EventCodec codec = codecs.get(format);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown event format: " + format);
+        }
+        return codec;
+    }
+}
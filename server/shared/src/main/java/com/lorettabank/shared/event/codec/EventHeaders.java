@@ -0,0 +1,53 @@
+package com.lorettabank.shared.event.codec;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+public final class EventHeaders {
+
+    public static final String FORMAT = "event-format";
+    public static final String SCHEMA_VERSION = "event-schema-version";
+    public static final int CURRENT_SCHEMA_VERSION = 1;
+
+    private EventHeaders() {}
+
+    public static void stamp(Headers headers, String format, Class<?> eventClass) {
+        headers.remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        headers.remove(FORMAT);
+        headers.remove(SCHEMA_VERSION);
+        headers.add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, bytes(eventClass.getName()));
+        headers.add(FORMAT, bytes(format));
+        headers.add(SCHEMA_VERSION, bytes(String.valueOf(CURRENT_SCHEMA_VERSION)));
+    }
+
+    public static String format(Headers headers) {
+        String format = value(headers, FORMAT);
+        return format != null ? format : EventCodecs.JSON;
+    }
+
+    public static int schemaVersion(Headers headers) {
+        String version = value(headers, SCHEMA_VERSION);
+        if (version == null) {
+            return CURRENT_SCHEMA_VERSION;
+        }
+        try {
+            return Integer.parseInt(version);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid event schema version: " + version);
+        }
+    }
+
+    private static String value(Headers headers, String key) {
+        if (headers == null) {
+            return null;
+        }
+        Header header = headers.lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,43 @@
+package com.lorettabank.shared.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.shared.event.DomainEvent;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+
+public class JsonEventCodec implements EventCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String format() {
+        return EventCodecs.JSON;
+    }
+
+    @Override
+    public byte[] encode(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to encode " + event.getEventType(), e);
+        }
+    }
+
+    @Override
+    public DomainEvent decode(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, DomainEvent.class);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to decode JSON event", e);
+        }
+    }
+
+    @Override
+    public byte[] transcodeJson(byte[] json) {
+        return json;
+    }
+}
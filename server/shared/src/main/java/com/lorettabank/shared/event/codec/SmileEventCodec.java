@@ -0,0 +1,59 @@
+package com.lorettabank.shared.event.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.lorettabank.shared.event.DomainEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+
+public class SmileEventCodec implements EventCodec {
+
+    private final JsonFactory jsonFactory;
+    private final ObjectMapper smileMapper;
+
+    public SmileEventCodec(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    @Override
+    public String format() {
+        return EventCodecs.SMILE;
+    }
+
+    @Override
+    public byte[] encode(DomainEvent event) {
+        try {
+            return smileMapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to encode " + event.getEventType(), e);
+        }
+    }
+
+    @Override
+    public DomainEvent decode(byte[] payload) {
+        try {
+            return smileMapper.readValue(payload, DomainEvent.class);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to decode Smile event", e);
+        }
+    }
+
+    @Override
+    public byte[] transcodeJson(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = jsonFactory.createParser(json);
+                JsonGenerator generator = smileMapper.getFactory().createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEventExact(parser);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Failed to transcode JSON event to Smile", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,41 @@
+package com.lorettabank.shared.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    private UuidV7() {}
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    public static String generateString() {
+        return generate().toString();
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    static UUID generate(long epochMillis) {
+        long floor = epochMillis << COUNTER_BITS;
+        long tick = LAST_TICK.updateAndGet(last -> Math.max(floor, last + 1));
+
+        long mostSigBits = ((tick >>> COUNTER_BITS) << 16) | VERSION | (tick & 0xFFFL);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,87 @@
+package com.lorettabank.shared.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.SavepointManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionSystemException;
+
+// Hibernate dialect whose transactions support TransactionStatus.createSavepoint(), which
+// the stock HibernateJpaDialect rejects.
+//
+// A JDBC savepoint only covers SQL that has reached the connection, so the persistence context
+// is flushed when a savepoint is created or released, and cleared when one is rolled back so the
+// discarded entities are not flushed later. A failed flush still marks the whole transaction
+// rollback-only; callers must check TransactionStatus.isRollbackOnly() before rolling back to
+// a savepoint.
+public class SavepointHibernateJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        return new SavepointTransactionData(
+                entityManager, super.beginTransaction(entityManager, definition));
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        super.cleanupTransaction(
+                transactionData instanceof SavepointTransactionData data
+                        ? data.delegate()
+                        : transactionData);
+    }
+
+    private record SavepointTransactionData(EntityManager entityManager, Object delegate)
+            implements SavepointManager {
+
+        @Override
+        public Object createSavepoint() {
+            entityManager.flush();
+            try {
+                return doWork(Connection::setSavepoint);
+            } catch (RuntimeException e) {
+                throw new CannotCreateTransactionException("Could not create JDBC savepoint", e);
+            }
+        }
+
+        @Override
+        public void rollbackToSavepoint(Object savepoint) {
+            try {
+                doWork(
+                        connection -> {
+                            connection.rollback((Savepoint) savepoint);
+                            return null;
+                        });
+            } catch (RuntimeException e) {
+                throw new TransactionSystemException("Could not roll back to JDBC savepoint", e);
+            }
+            entityManager.clear();
+        }
+
+        @Override
+        public void releaseSavepoint(Object savepoint) {
+            entityManager.flush();
+            try {
+                doWork(
+                        connection -> {
+                            connection.releaseSavepoint((Savepoint) savepoint);
+                            return null;
+                        });
+            } catch (RuntimeException e) {
+                throw new TransactionSystemException("Could not release JDBC savepoint", e);
+            }
+        }
+
+        private <T> T doWork(ReturningWork<T> work) {
+            return entityManager.unwrap(Session.class).doReturningWork(work);
+        }
+    }
+}
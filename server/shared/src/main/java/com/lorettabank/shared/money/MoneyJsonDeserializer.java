@@ -0,0 +1,44 @@
+package com.lorettabank.shared.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartObjectToken()) {
+            return ctxt.reportInputMismatch(Money.class, "Money must be a JSON object");
+        }
+        BigDecimal amount = null;
+        String currency = null;
+        for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+            JsonToken token = p.nextToken();
+            switch (field) {
+                case "amount" ->
+                        amount =
+                                token == JsonToken.VALUE_STRING
+                                        ? new BigDecimal(p.getText())
+                                        : p.getDecimalValue();
+                case "currency" -> currency = p.getText();
+                default -> p.skipChildren();
+            }
+        }
+        if (amount == null || currency == null) {
+            return ctxt.reportInputMismatch(Money.class, "Money requires amount and currency");
+        }
+        try {
+            return Money.of(amount, currency);
+        } catch (ArithmeticException e) {
+            return ctxt.reportInputMismatch(Money.class, "Money amount out of range: " + amount);
+        }
+    }
+}
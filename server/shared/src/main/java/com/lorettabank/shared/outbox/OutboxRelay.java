@@ -0,0 +1,214 @@
+package com.lorettabank.shared.outbox;
+
+import com.lorettabank.shared.event.DomainEventTypes;
+import com.lorettabank.shared.event.codec.EventCodec;
+import com.lorettabank.shared.event.codec.EventHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+public class OutboxRelay {
+
+    private static final String SELECT_PENDING =
+            "SELECT id, aggregate_id, event_type, payload,"
+                    + " GREATEST(EXTRACT(EPOCH FROM (LOCALTIMESTAMP - created_at)) * 1000, 0)"
+                    + " AS age_ms"
+                    + " FROM outbox_events WHERE published = false";
+
+    private static final String CLAIM_SQL =
+            SELECT_PENDING + " ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_BY_ID_SQL =
+            SELECT_PENDING + " AND id = ANY (?) ORDER BY id FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_PUBLISHED_SQL =
+            "UPDATE outbox_events SET published = true WHERE id = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final EventCodec codec;
+    private final OutboxTopicResolver topicResolver;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration sendTimeout;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer lagTimer;
+    private final Counter failureCounter;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            EventCodec codec,
+            MeterRegistry meterRegistry,
+            OutboxTopicResolver topicResolver,
+            int batchSize,
+            int maxBatchesPerRun,
+            Duration sendTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.codec = codec;
+        this.topicResolver = topicResolver;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.sendTimeout = sendTimeout;
+        this.batchSizeSummary =
+                DistributionSummary.builder("outbox.relay.batch.size")
+                        .description("Outbox events published per relay batch")
+                        .baseUnit("events")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        this.lagTimer =
+                Timer.builder("outbox.relay.lag")
+                        .description("Time from outbox insert to broker acknowledgement")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        this.failureCounter =
+                Counter.builder("outbox.relay.failures")
+                        .description("Outbox events that could not be published")
+                        .register(meterRegistry);
+    }
+
+    public int drain() {
+        int published = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            BatchResult result = relayBatch();
+            published += result.published();
+            if (result.claimed() < batchSize || result.published() < result.claimed()) {
+                break;
+            }
+        }
+        return published;
+    }
+
+    public boolean relay(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return true;
+        }
+        BatchResult result =
+                transactionTemplate.execute(
+                        status ->
+                                relayClaimed(
+                                        jdbcTemplate.query(
+                                                CLAIM_BY_ID_SQL,
+                                                ps -> ps.setArray(1, toBigintArray(ps, ids)),
+                                                this::mapPendingEvent)));
+        return result.published() == result.claimed();
+    }
+
+    private BatchResult relayBatch() {
+        return transactionTemplate.execute(
+                status ->
+                        relayClaimed(
+                                jdbcTemplate.query(CLAIM_SQL, this::mapPendingEvent, batchSize)));
+    }
+
+    private BatchResult relayClaimed(List<PendingEvent> claimed) {
+        if (claimed.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        long claimedAt = System.nanoTime();
+        List<InFlightEvent> inFlight = dispatch(claimed);
+        List<Long> acknowledged = awaitAcknowledgements(inFlight, claimedAt);
+        markPublished(acknowledged);
+
+        batchSizeSummary.record(acknowledged.size());
+        return new BatchResult(claimed.size(), acknowledged.size());
+    }
+
+    private List<InFlightEvent> dispatch(List<PendingEvent> claimed) {
+        List<InFlightEvent> inFlight = new ArrayList<>(claimed.size());
+        for (PendingEvent event : claimed) {
+            try {
+                ProducerRecord<String, byte[]> record =
+                        new ProducerRecord<>(
+                                topicResolver.resolve(event.eventType()),
+                                event.aggregateId(),
+                                codec.transcodeJson(event.payload()));
+                EventHeaders.stamp(
+                        record.headers(),
+                        codec.format(),
+                        DomainEventTypes.classFor(event.eventType()));
+                inFlight.add(new InFlightEvent(event, kafkaTemplate.send(record)));
+            } catch (Exception e) {
+                failureCounter.increment();
+                log.error("Failed to dispatch outbox event {}: {}", event.id(), e.getMessage(), e);
+            }
+        }
+        return inFlight;
+    }
+
+    private void markPublished(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(MARK_PUBLISHED_SQL, ps -> ps.setArray(1, toBigintArray(ps, ids)));
+    }
+
+    private static Array toBigintArray(PreparedStatement ps, List<Long> ids) throws SQLException {
+        return ps.getConnection().createArrayOf("bigint", ids.toArray());
+    }
+
+    private List<Long> awaitAcknowledgements(List<InFlightEvent> inFlight, long claimedAt) {
+        List<Long> acknowledged = new ArrayList<>(inFlight.size());
+        long deadline = claimedAt + sendTimeout.toNanos();
+        for (InFlightEvent sent : inFlight) {
+            try {
+                sent.future().get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                acknowledged.add(sent.event().id());
+                long sinceClaim = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - claimedAt);
+                lagTimer.record(sent.event().ageMillis() + sinceClaim, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while awaiting outbox acknowledgements");
+                break;
+            } catch (Exception e) {
+                failureCounter.increment();
+                log.error(
+                        "Failed to publish outbox event {}: {}",
+                        sent.event().id(),
+                        e.getMessage(),
+                        e);
+            }
+        }
+        return acknowledged;
+    }
+
+    private PendingEvent mapPendingEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new PendingEvent(
+                rs.getLong("id"),
+                rs.getString("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getBytes("payload"),
+                rs.getLong("age_ms"));
+    }
+
+    private record PendingEvent(
+            long id, String aggregateId, String eventType, byte[] payload, long ageMillis) {}
+
+    private record InFlightEvent(
+            PendingEvent event, CompletableFuture<SendResult<String, byte[]>> future) {}
+
+    private record BatchResult(int claimed, int published) {}
+}
@@ -0,0 +1,319 @@
+package com.lorettabank.shared.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+public class OutboxReplicationStreamer implements SmartLifecycle {
+
+    private static final String OUTBOX_TABLE = "outbox_events";
+
+    private final OutboxRelay outboxRelay;
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String slotName;
+    private final String publication;
+    private final int batchSize;
+    private final Duration retryDelay;
+
+    private final Map<Integer, Integer> idColumnByRelation = new HashMap<>();
+    private final List<Long> transactionIds = new ArrayList<>();
+    private final List<Long> committedIds = new ArrayList<>();
+    private LogSequenceNumber committedLsn;
+
+    private volatile boolean running;
+    private volatile boolean streaming;
+    private volatile Connection connection;
+    private Thread worker;
+
+    public OutboxReplicationStreamer(
+            OutboxRelay outboxRelay,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            String url,
+            String username,
+            String password,
+            String slotName,
+            String publication,
+            int batchSize,
+            Duration retryDelay) {
+        this.outboxRelay = outboxRelay;
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.slotName = slotName;
+        this.publication = publication;
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        Gauge.builder("outbox.relay.replication.active", this, s -> s.isStreaming() ? 1 : 0)
+                .description("Whether the outbox is being tailed from the replication slot")
+                .register(meterRegistry);
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "outbox-replication-" + slotName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeConnection();
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                stream();
+            } catch (Exception e) {
+                if (running) {
+                    log.warn(
+                            "Outbox replication stream on slot {} failed, polling takes over: {}",
+                            slotName,
+                            e.getMessage());
+                }
+            } finally {
+                streaming = false;
+                closeConnection();
+            }
+            if (running) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(retryDelay.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void stream() throws Exception {
+        connection = openReplicationConnection();
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        ensurePublication();
+        createSlot(pgConnection);
+
+        try (PGReplicationStream stream =
+                pgConnection
+                        .getReplicationAPI()
+                        .replicationStream()
+                        .logical()
+                        .withSlotName(slotName)
+                        .withSlotOption("proto_version", 1)
+                        .withSlotOption("publication_names", publication)
+                        .withStatusInterval(10, TimeUnit.SECONDS)
+                        .start()) {
+            resetState();
+            streaming = true;
+            log.info("Tailing {} from replication slot {}", OUTBOX_TABLE, slotName);
+
+            outboxRelay.drain();
+
+            while (running) {
+                ByteBuffer message = stream.readPending();
+                if (message == null) {
+                    flush(stream);
+                    message = stream.read();
+                }
+                if (message != null) {
+                    decode(message);
+                    if (committedIds.size() >= batchSize) {
+                        flush(stream);
+                    }
+                }
+            }
+        }
+    }
+
+    private Connection openReplicationConnection() throws SQLException {
+        Properties props = new Properties();
+        PGProperty.USER.set(props, username);
+        PGProperty.PASSWORD.set(props, password);
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(props, "10");
+        PGProperty.REPLICATION.set(props, "database");
+        PGProperty.PREFER_QUERY_MODE.set(props, "simple");
+        return DriverManager.getConnection(url, props);
+    }
+
+    // Migrations only keep the publication while the relay runs in replication mode, so the
+    // streamer creates it on first start.
+    private void ensurePublication() {
+        Integer existing =
+                jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM pg_publication WHERE pubname = ?",
+                        Integer.class,
+                        publication);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        jdbcTemplate.execute(
+                "CREATE PUBLICATION "
+                        + publication
+                        + " FOR TABLE "
+                        + OUTBOX_TABLE
+                        + " WITH (publish_via_partition_root = true)");
+        log.info("Created publication {} for {}", publication, OUTBOX_TABLE);
+    }
+
+    // The slot is temporary, so Postgres drops it when this connection closes: on stop(), on a
+    // stream failure, or when the process dies. Nothing retains WAL while the relay is polling,
+    // and the drain after each reconnect covers inserts committed without a slot.
+    private void createSlot(PGConnection pgConnection) throws SQLException {
+        List<Boolean> legacy =
+                jdbcTemplate.queryForList(
+                        "SELECT active FROM pg_replication_slots"
+                                + " WHERE slot_name = ? AND NOT temporary",
+                        Boolean.class,
+                        slotName);
+        if (!legacy.isEmpty() && !legacy.get(0)) {
+            jdbcTemplate.query("SELECT pg_drop_replication_slot(?)", rs -> {}, slotName);
+            log.info("Dropped permanent replication slot {}", slotName);
+        }
+        pgConnection
+                .getReplicationAPI()
+                .createReplicationSlot()
+                .logical()
+                .withSlotName(slotName)
+                .withOutputPlugin("pgoutput")
+                .withTemporaryOption()
+                .make();
+        log.info("Created temporary replication slot {}", slotName);
+    }
+
+    private void flush(PGReplicationStream stream) throws SQLException {
+        if (!committedIds.isEmpty()) {
+            if (!outboxRelay.relay(committedIds)) {
+                throw new IllegalStateException(
+                        "Outbox events were not acknowledged by the broker");
+            }
+            committedIds.clear();
+        }
+        if (committedLsn != null) {
+            stream.setAppliedLSN(committedLsn);
+            stream.setFlushedLSN(committedLsn);
+            committedLsn = null;
+        }
+    }
+
+    private void decode(ByteBuffer message) {
+        byte type = message.get();
+        switch (type) {
+            case 'B' -> transactionIds.clear();
+            case 'R' -> decodeRelation(message);
+            case 'I' -> decodeInsert(message);
+            case 'C' -> {
+                message.get();
+                message.getLong();
+                committedLsn = LogSequenceNumber.valueOf(message.getLong());
+                committedIds.addAll(transactionIds);
+                transactionIds.clear();
+            }
+            default -> {}
+        }
+    }
+
+    private void decodeRelation(ByteBuffer message) {
+        int relationId = message.getInt();
+        readString(message);
+        String relationName = readString(message);
+        message.get();
+        short columnCount = message.getShort();
+        for (int i = 0; i < columnCount; i++) {
+            message.get();
+            String columnName = readString(message);
+            message.getInt();
+            message.getInt();
+            if (OUTBOX_TABLE.equals(relationName) && "id".equals(columnName)) {
+                idColumnByRelation.put(relationId, i);
+            }
+        }
+    }
+
+    private void decodeInsert(ByteBuffer message) {
+        Integer idColumn = idColumnByRelation.get(message.getInt());
+        if (idColumn == null) {
+            return;
+        }
+        message.get();
+        short columnCount = message.getShort();
+        for (int i = 0; i < columnCount; i++) {
+            byte kind = message.get();
+            if (kind != 't' && kind != 'b') {
+                continue;
+            }
+            byte[] value = new byte[message.getInt()];
+            message.get(value);
+            if (i == idColumn) {
+                transactionIds.add(Long.parseLong(new String(value, StandardCharsets.UTF_8)));
+                return;
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer message) {
+        int end = message.position();
+        while (message.get(end) != 0) {
+            end++;
+        }
+        byte[] bytes = new byte[end - message.position()];
+        message.get(bytes);
+        message.get();
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void resetState() {
+        idColumnByRelation.clear();
+        transactionIds.clear();
+        committedIds.clear();
+        committedLsn = null;
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Error closing replication connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.lorettabank.shared.outbox;
+
+import com.lorettabank.shared.partition.PartitionInterval;
+import com.lorettabank.shared.partition.RangePartition;
+import com.lorettabank.shared.partition.RangePartitionManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+public class OutboxRetention {
+
+    private static final String OUTBOX_TABLE = "outbox_events";
+    private static final String ARCHIVE_TABLE = "outbox_events_archive";
+    private static final String LEGACY_ARCHIVE_TABLE = "outbox_events_archive_legacy";
+
+    private final RangePartitionManager partitionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeDays;
+    private final int publishedRetentionDays;
+    private final int archiveRetentionDays;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong outboxBytes = new AtomicLong();
+    private final AtomicLong archiveBytes = new AtomicLong();
+    private final AtomicLong outboxPartitions = new AtomicLong();
+    private final AtomicLong archivePartitions = new AtomicLong();
+
+    private boolean legacyArchiveRead;
+    private LocalDate legacyArchiveNewest;
+
+    public OutboxRetention(
+            RangePartitionManager partitionManager,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            int premakeDays,
+            int publishedRetentionDays,
+            int archiveRetentionDays) {
+        this.partitionManager = partitionManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.premakeDays = premakeDays;
+        this.publishedRetentionDays = publishedRetentionDays;
+        this.archiveRetentionDays = archiveRetentionDays;
+
+        Gauge.builder("outbox.backlog", backlog, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .baseUnit("events")
+                .register(meterRegistry);
+        registerTableGauges(meterRegistry, OUTBOX_TABLE, outboxBytes, outboxPartitions);
+        registerTableGauges(meterRegistry, ARCHIVE_TABLE, archiveBytes, archivePartitions);
+    }
+
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+
+        for (int day = 0; day <= premakeDays; day++) {
+            partitionManager.ensurePartition(
+                    OUTBOX_TABLE, PartitionInterval.DAY, today.plusDays(day));
+        }
+
+        LocalDate archiveBefore = today.minusDays(publishedRetentionDays);
+        for (RangePartition partition :
+                partitionManager.partitions(OUTBOX_TABLE, PartitionInterval.DAY)) {
+            if (partition.to().isAfter(archiveBefore)) {
+                break;
+            }
+            if (hasUnpublished(partition)) {
+                log.warn(
+                        "Outbox partition {} still has unpublished events, not archiving",
+                        partition.name());
+                continue;
+            }
+            partitionManager.movePartition(OUTBOX_TABLE, ARCHIVE_TABLE, partition);
+        }
+
+        LocalDate dropBefore = today.minusDays(archiveRetentionDays);
+        for (RangePartition partition :
+                partitionManager.partitions(ARCHIVE_TABLE, PartitionInterval.DAY)) {
+            if (partition.to().isAfter(dropBefore)) {
+                break;
+            }
+            partitionManager.dropPartition(ARCHIVE_TABLE, partition);
+        }
+        dropExpiredLegacyArchive(dropBefore);
+
+        refreshStats();
+    }
+
+    public void refreshStats() {
+        Long pending =
+                jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM " + OUTBOX_TABLE + " WHERE published = false",
+                        Long.class);
+        backlog.set(pending != null ? pending : 0L);
+        outboxBytes.set(partitionManager.totalBytes(OUTBOX_TABLE));
+        archiveBytes.set(partitionManager.totalBytes(ARCHIVE_TABLE));
+        outboxPartitions.set(
+                partitionManager.partitions(OUTBOX_TABLE, PartitionInterval.DAY).size());
+        archivePartitions.set(
+                partitionManager.partitions(ARCHIVE_TABLE, PartitionInterval.DAY).size());
+    }
+
+    // The published rows from before partitioning were left in an unpartitioned table. Nothing is
+    // written to it any more, so its newest row is read once and the whole table is dropped when
+    // that row leaves the archive retention window.
+    private void dropExpiredLegacyArchive(LocalDate dropBefore) {
+        if (!legacyArchiveRead) {
+            if (!Boolean.TRUE.equals(
+                    jdbcTemplate.queryForObject(
+                            "SELECT to_regclass(?) IS NOT NULL",
+                            Boolean.class,
+                            LEGACY_ARCHIVE_TABLE))) {
+                return;
+            }
+            legacyArchiveNewest =
+                    jdbcTemplate.queryForObject(
+                            "SELECT max(created_at)::date FROM " + LEGACY_ARCHIVE_TABLE,
+                            LocalDate.class);
+            legacyArchiveRead = true;
+        }
+        if (legacyArchiveNewest != null && !legacyArchiveNewest.isBefore(dropBefore)) {
+            return;
+        }
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + LEGACY_ARCHIVE_TABLE);
+        legacyArchiveRead = false;
+        log.info("Dropped {} past archive retention", LEGACY_ARCHIVE_TABLE);
+    }
+
+    private boolean hasUnpublished(RangePartition partition) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM "
+                                + partition.name()
+                                + " WHERE published = false)",
+                        Boolean.class));
+    }
+
+    private static void registerTableGauges(
+            MeterRegistry meterRegistry, String table, AtomicLong bytes, AtomicLong partitions) {
+        Gauge.builder("outbox.table.size", bytes, AtomicLong::get)
+                .description("On-disk size of the outbox table including indexes")
+                .baseUnit("bytes")
+                .tag("table", table)
+                .register(meterRegistry);
+        Gauge.builder("outbox.table.partitions", partitions, AtomicLong::get)
+                .description("Number of daily partitions attached to the outbox table")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
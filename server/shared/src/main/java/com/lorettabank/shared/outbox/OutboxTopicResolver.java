@@ -0,0 +1,7 @@
+package com.lorettabank.shared.outbox;
+
+@FunctionalInterface
+public interface OutboxTopicResolver {
+
+    String resolve(String eventType);
+}
@@ -0,0 +1,5 @@
+package com.lorettabank.shared.partition;
+
+import java.time.LocalDate;
+
+public record RangePartition(String name, LocalDate from, LocalDate to) {}
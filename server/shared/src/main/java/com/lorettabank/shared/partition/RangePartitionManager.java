@@ -0,0 +1,201 @@
+package com.lorettabank.shared.partition;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+public class RangePartitionManager {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String PARTITION_COLUMN = "created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lockTimeout;
+
+    public RangePartitionManager(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Duration lockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.lockTimeout = lockTimeout;
+    }
+
+    public List<RangePartition> partitions(String table, PartitionInterval interval) {
+        String prefix = identifier(table) + "_p";
+        return jdbcTemplate
+                .queryForList(
+                        "SELECT c.relname FROM pg_inherits i"
+                                + " JOIN pg_class c ON c.oid = i.inhrelid"
+                                + " WHERE i.inhparent = to_regclass(?)",
+                        String.class,
+                        table)
+                .stream()
+                .filter(name -> name.startsWith(prefix))
+                .map(name -> toPartition(name, prefix, interval))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(RangePartition::from))
+                .toList();
+    }
+
+    public boolean ensurePartition(String table, PartitionInterval interval, LocalDate date) {
+        LocalDate from = interval.startOf(date);
+        LocalDate to = interval.next(from);
+        String name = identifier(table) + "_p" + interval.suffix(from);
+        String defaultPartition = table + "_default";
+
+        return inLockedTransaction(
+                table,
+                () -> {
+                    if (exists(name)) {
+                        return false;
+                    }
+                    jdbcTemplate.execute(
+                            "CREATE TABLE "
+                                    + name
+                                    + " (LIKE "
+                                    + table
+                                    + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+                    if (exists(defaultPartition)) {
+                        jdbcTemplate.update(
+                                "WITH moved AS (DELETE FROM "
+                                        + defaultPartition
+                                        + " WHERE "
+                                        + PARTITION_COLUMN
+                                        + " >= ? AND "
+                                        + PARTITION_COLUMN
+                                        + " < ? RETURNING *) INSERT INTO "
+                                        + name
+                                        + " SELECT * FROM moved",
+                                from.atStartOfDay(),
+                                to.atStartOfDay());
+                    }
+                    jdbcTemplate.execute(
+                            "ALTER TABLE "
+                                    + table
+                                    + " ATTACH PARTITION "
+                                    + name
+                                    + " FOR VALUES FROM ('"
+                                    + from
+                                    + "') TO ('"
+                                    + to
+                                    + "')");
+                    log.info("Created partition {} [{}, {})", name, from, to);
+                    return true;
+                });
+    }
+
+    public boolean movePartition(String fromTable, String toTable, RangePartition partition) {
+        String name = identifier(partition.name());
+        String target = identifier(toTable) + name.substring(identifier(fromTable).length());
+
+        return inLockedTransaction(
+                fromTable,
+                () -> {
+                    if (!isAttached(fromTable, name)) {
+                        return false;
+                    }
+                    jdbcTemplate.execute("ALTER TABLE " + fromTable + " DETACH PARTITION " + name);
+                    jdbcTemplate.execute("ALTER TABLE " + name + " RENAME TO " + target);
+                    jdbcTemplate.execute(
+                            "ALTER TABLE "
+                                    + toTable
+                                    + " ATTACH PARTITION "
+                                    + target
+                                    + " FOR VALUES FROM ('"
+                                    + partition.from()
+                                    + "') TO ('"
+                                    + partition.to()
+                                    + "')");
+                    log.info("Moved partition {} from {} to {}", name, fromTable, toTable);
+                    return true;
+                });
+    }
+
+    public boolean dropPartition(String table, RangePartition partition) {
+        String name = identifier(partition.name());
+
+        return inLockedTransaction(
+                table,
+                () -> {
+                    if (!isAttached(table, name)) {
+                        return false;
+                    }
+                    jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + name);
+                    jdbcTemplate.execute("DROP TABLE " + name);
+                    log.info("Dropped partition {} of {}", name, table);
+                    return true;
+                });
+    }
+
+    public long totalBytes(String table) {
+        Long bytes =
+                jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(sum(pg_total_relation_size(i.inhrelid)), 0)"
+                                + " FROM pg_inherits i WHERE i.inhparent = to_regclass(?)",
+                        Long.class,
+                        table);
+        return bytes != null ? bytes : 0L;
+    }
+
+    private boolean inLockedTransaction(String table, Supplier<Boolean> work) {
+        return Boolean.TRUE.equals(
+                transactionTemplate.execute(
+                        status -> {
+                            Boolean locked =
+                                    jdbcTemplate.queryForObject(
+                                            "SELECT pg_try_advisory_xact_lock(hashtext(?))",
+                                            Boolean.class,
+                                            table);
+                            if (!Boolean.TRUE.equals(locked)) {
+                                return false;
+                            }
+                            jdbcTemplate.execute(
+                                    "SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'");
+                            return work.get();
+                        }));
+    }
+
+    private boolean exists(String relation) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(
+                        "SELECT to_regclass(?) IS NOT NULL", Boolean.class, relation));
+    }
+
+    private boolean isAttached(String table, String partition) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM pg_inherits"
+                                + " WHERE inhparent = to_regclass(?)"
+                                + " AND inhrelid = to_regclass(?))",
+                        Boolean.class,
+                        table,
+                        partition));
+    }
+
+    private static RangePartition toPartition(
+            String name, String prefix, PartitionInterval interval) {
+        try {
+            LocalDate from = interval.parseSuffix(name.substring(prefix.length()));
+            return new RangePartition(name, from, interval.next(from));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String identifier(String name) {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid identifier: " + name);
+        }
+        return name;
+    }
+}
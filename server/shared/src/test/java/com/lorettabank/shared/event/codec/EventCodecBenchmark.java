@@ -0,0 +1,75 @@
+package com.lorettabank.shared.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.shared.config.JacksonConfig;
+import com.lorettabank.shared.event.DomainEvent;
+import com.lorettabank.shared.event.MoneyDepositedEvent;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    @Param({EventCodecs.JSON, EventCodecs.SMILE})
+    public String format;
+
+    private EventCodec codec;
+    private MoneyDepositedEvent event;
+    private byte[] storedPayload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        codec = new EventCodecs(objectMapper).forFormat(format);
+        event =
+                MoneyDepositedEvent.builder()
+                        .eventType("MONEY_DEPOSITED")
+                        .aggregateId("42")
+                        .correlationId("3f2b8c1e-5d0a-4c7b-9e61-2a4d8f0b7c13")
+                        .accountId(42L)
+                        .accountNumber("LOR0123456789")
+                        .amount(new BigDecimal("250.0000"))
+                        .currency("ZAR")
+                        .newBalance(new BigDecimal("10250.0000"))
+                        .reference("DEP-9A1C22F0")
+                        .build();
+        event.initDefaults();
+        storedPayload = objectMapper.writeValueAsBytes(event);
+        encoded = codec.encode(event);
+        System.out.printf(
+                "%s: %d bytes per event (stored JSON %d bytes)%n",
+                format, encoded.length, storedPayload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public DomainEvent decode() {
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public byte[] transcodeStoredJson() {
+        return codec.transcodeJson(storedPayload);
+    }
+}
@@ -0,0 +1,92 @@
+package com.lorettabank.shared.event.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.shared.config.JacksonConfig;
+import com.lorettabank.shared.event.DomainEvent;
+import com.lorettabank.shared.event.MoneyDepositedEvent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+class EventCodecTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final EventCodecs codecs = new EventCodecs(objectMapper);
+    private final DomainEventDeserializer deserializer = new DomainEventDeserializer(codecs);
+
+    @Test
+    void shouldRoundTripSmileThroughHeaders() {
+        MoneyDepositedEvent event = moneyDeposited();
+        Headers headers = new RecordHeaders();
+
+        byte[] payload =
+                new DomainEventSerializer(codecs.forFormat(EventCodecs.SMILE))
+                        .serialize("transaction-events", headers, event);
+        DomainEvent decoded = deserializer.deserialize("transaction-events", headers, payload);
+
+        assertThat(EventHeaders.format(headers)).isEqualTo(EventCodecs.SMILE);
+        assertThat(decoded).isInstanceOf(MoneyDepositedEvent.class);
+        assertThat(((MoneyDepositedEvent) decoded).getAmount()).isEqualTo("250.0000");
+        assertThat(decoded.getEventId()).isEqualTo(event.getEventId());
+        assertThat(decoded.getOccurredAt()).isEqualTo(event.getOccurredAt());
+    }
+
+    @Test
+    void shouldTranscodeStoredJsonToSmallerSmile() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(moneyDeposited());
+        EventCodec smile = codecs.forFormat(EventCodecs.SMILE);
+
+        byte[] transcoded = smile.transcodeJson(json);
+
+        assertThat(transcoded.length).isLessThan(json.length);
+        assertThat(((MoneyDepositedEvent) smile.decode(transcoded)).getNewBalance())
+                .isEqualTo("10250.0000");
+    }
+
+    @Test
+    void shouldDecodeJsonWithoutFormatHeaders() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(moneyDeposited());
+
+        DomainEvent decoded =
+                deserializer.deserialize("transaction-events", new RecordHeaders(), json);
+
+        assertThat(decoded).isInstanceOf(MoneyDepositedEvent.class);
+    }
+
+    @Test
+    void shouldRejectNewerSchemaVersionAndUnknownFormat() {
+        Headers newer = new RecordHeaders();
+        newer.add(EventHeaders.SCHEMA_VERSION, "2".getBytes(StandardCharsets.UTF_8));
+        Headers unknown = new RecordHeaders();
+        unknown.add(EventHeaders.FORMAT, "avro".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> deserializer.deserialize("transaction-events", newer, new byte[1]))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(
+                        () -> deserializer.deserialize("transaction-events", unknown, new byte[1]))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private static MoneyDepositedEvent moneyDeposited() {
+        MoneyDepositedEvent event =
+                MoneyDepositedEvent.builder()
+                        .eventType("MONEY_DEPOSITED")
+                        .aggregateId("42")
+                        .correlationId("3f2b8c1e-5d0a-4c7b-9e61-2a4d8f0b7c13")
+                        .accountId(42L)
+                        .accountNumber("LOR0123456789")
+                        .amount(new BigDecimal("250.0000"))
+                        .currency("ZAR")
+                        .newBalance(new BigDecimal("10250.0000"))
+                        .reference("DEP-9A1C22F0")
+                        .build();
+        event.initDefaults();
+        return event;
+    }
+}
@@ -0,0 +1,62 @@
+package com.lorettabank.shared.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    void shouldEncodeVersionVariantAndTimestamp() {
+        long now = System.currentTimeMillis();
+
+        UUID uuid = UuidV7.generate(now);
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampMillis(uuid)).isGreaterThanOrEqualTo(now);
+    }
+
+    @Test
+    void shouldSortInGenerationOrderWithinTheSameMillisecond() {
+        long now = System.currentTimeMillis();
+        List<String> generated = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            generated.add(UuidV7.generate(now).toString());
+        }
+
+        assertThat(generated).isSortedAccordingTo(Comparator.naturalOrder());
+    }
+
+    @Test
+    void shouldNotCollideAcrossThreads() {
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        try (ExecutorService threads = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                threads.execute(
+                        () -> {
+                            for (int i = 0; i < 10_000; i++) {
+                                generated.add(UuidV7.generate());
+                            }
+                        });
+            }
+        }
+
+        assertThat(generated).hasSize(80_000);
+    }
+
+    @Test
+    void shouldRejectTimestampOfRandomUuid() {
+        assertThatThrownBy(() -> UuidV7.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
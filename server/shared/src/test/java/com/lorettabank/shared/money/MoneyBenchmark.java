@@ -0,0 +1,95 @@
+package com.lorettabank.shared.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final String CURRENCY = "ZAR";
+    private static final BigDecimal ZERO = BigDecimal.ZERO.setScale(4, RoundingMode.HALF_UP);
+
+    @Param({"1000"})
+    public int lineItems;
+
+    private BigDecimal[] decimals;
+    private long[] minorUnits;
+    private BigDecimal balance;
+    private BigDecimal overdraftLimit;
+    private BigDecimal requested;
+    private Money balanceMoney;
+    private Money overdraftMoney;
+    private Money requestedMoney;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        decimals = new BigDecimal[lineItems];
+        minorUnits = new long[lineItems];
+        for (int i = 0; i < lineItems; i++) {
+            minorUnits[i] = random.nextLong(1, 10_000_000_000L);
+            decimals[i] = BigDecimal.valueOf(minorUnits[i], Money.SCALE);
+        }
+        balance = new BigDecimal("10250.0000");
+        overdraftLimit = new BigDecimal("500.0000");
+        requested = new BigDecimal("250.0000");
+        balanceMoney = Money.of(balance, CURRENCY);
+        overdraftMoney = Money.of(overdraftLimit, CURRENCY);
+        requestedMoney = Money.of(requested, CURRENCY);
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = ZERO;
+        for (BigDecimal amount : decimals) {
+            total = total.add(amount.setScale(4, RoundingMode.HALF_UP));
+        }
+        return total.setScale(4, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public Money sumMoney() {
+        Money total = Money.zero(CURRENCY);
+        for (long amount : minorUnits) {
+            total = total.add(Money.ofMinor(amount, CURRENCY));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money sumMoneyFromBigDecimal() {
+        Money total = Money.zero(CURRENCY);
+        for (BigDecimal amount : decimals) {
+            total = total.add(Money.of(amount, CURRENCY));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public boolean sufficientBalanceBigDecimal() {
+        return balance.add(overdraftLimit).compareTo(requested) >= 0;
+    }
+
+    @Benchmark
+    public boolean sufficientBalanceMoney() {
+        return !balanceMoney.add(overdraftMoney).isLessThan(requestedMoney);
+    }
+}
@@ -0,0 +1,60 @@
+package com.lorettabank.shared.money;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.shared.config.JacksonConfig;
+import com.lorettabank.shared.exception.BusinessException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void shouldRoundToFourDecimalPlacesLikeNumericColumns() {
+        assertThat(Money.of(new BigDecimal("10.12345"), "ZAR").minorUnits()).isEqualTo(101235L);
+        assertThat(Money.of(new BigDecimal("-0.00005"), "ZAR").minorUnits()).isEqualTo(-1L);
+        assertThat(Money.of(new BigDecimal("250"), "ZAR").toBigDecimal()).isEqualTo("250.0000");
+    }
+
+    @Test
+    void shouldAddSubtractAndCompare() {
+        Money balance = Money.of(new BigDecimal("100.0000"), "ZAR");
+        Money overdraft = Money.of(new BigDecimal("50.5"), "ZAR");
+
+        Money available = balance.add(overdraft);
+
+        assertThat(available.toBigDecimal()).isEqualTo("150.5000");
+        assertThat(available.subtract(Money.of(new BigDecimal("150.5001"), "ZAR")).signum())
+                .isNegative();
+        assertThat(balance.isLessThan(available)).isTrue();
+    }
+
+    @Test
+    void shouldRejectOverflowAndCurrencyMismatch() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, "ZAR");
+
+        assertThatThrownBy(() -> max.add(Money.ofMinor(1L, "ZAR")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e20"), "ZAR"))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.compareTo(Money.zero("USD")))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void shouldRoundTripThroughJsonAndJpaConverter() throws Exception {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        Money money = Money.of(new BigDecimal("10250.0000"), "ZAR");
+
+        String json = objectMapper.writeValueAsString(money);
+        MoneyAmountConverter converter = new MoneyAmountConverter();
+
+        assertThat(json).isEqualTo("{\"amount\":10250.0000,\"currency\":\"ZAR\"}");
+        assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(money);
+        assertThat(converter.convertToDatabaseColumn(money.minorUnits())).isEqualTo("10250.0000");
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("10250.0000")))
+                .isEqualTo(money.minorUnits());
+    }
+}
@@ -0,0 +1,109 @@
+package com.lorettabank.shared.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.shared.config.JacksonConfig;
+import com.lorettabank.shared.event.DomainEvent;
+import com.lorettabank.shared.event.DomainEventTypes;
+import com.lorettabank.shared.event.MoneyDepositedEvent;
+import com.lorettabank.shared.event.codec.EventCodec;
+import com.lorettabank.shared.event.codec.EventCodecs;
+import com.lorettabank.shared.event.codec.EventHeaders;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutboxPublishPathBenchmark {
+
+    private static final String TOPIC = "account-events";
+    private static final String AGGREGATE_ID = "42";
+    private static final String EVENT_TYPE = "MONEY_DEPOSITED";
+
+    private ObjectMapper objectMapper;
+    private JsonSerializer<DomainEvent> jsonSerializer;
+    private ByteArraySerializer byteArraySerializer;
+    private byte[] storedPayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new JacksonConfig().objectMapper();
+        jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.configure(Map.of(JsonSerializer.ADD_TYPE_INFO_HEADERS, true), false);
+        byteArraySerializer = new ByteArraySerializer();
+
+        MoneyDepositedEvent event =
+                MoneyDepositedEvent.builder()
+                        .eventType(EVENT_TYPE)
+                        .aggregateId(AGGREGATE_ID)
+                        .correlationId("3f2b8c1e-5d0a-4c7b-9e61-2a4d8f0b7c13")
+                        .accountId(42L)
+                        .accountNumber("LOR0123456789")
+                        .amount(new BigDecimal("250.0000"))
+                        .currency("ZAR")
+                        .newBalance(new BigDecimal("10250.0000"))
+                        .reference("DEP-9A1C22F0")
+                        .build();
+        event.initDefaults();
+        storedPayload = objectMapper.writeValueAsBytes(event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jsonSerializer.close();
+        byteArraySerializer.close();
+    }
+
+    @Benchmark
+    public byte[] reserialize() throws Exception {
+        String payload = new String(storedPayload, StandardCharsets.UTF_8);
+        DomainEvent event = objectMapper.readValue(payload, DomainEvent.class);
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    // Mirrors OutboxRelay.dispatch: the stored JSON is transcoded to the configured format and
+    // stamped with the event headers, then handed to the byte-array serializer
+    @Benchmark
+    public byte[] relay(RelayCodec relay) {
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(TOPIC, AGGREGATE_ID, relay.codec.transcodeJson(storedPayload));
+        EventHeaders.stamp(
+                record.headers(), relay.codec.format(), DomainEventTypes.classFor(EVENT_TYPE));
+        return byteArraySerializer.serialize(TOPIC, record.headers(), record.value());
+    }
+
+    @State(Scope.Benchmark)
+    public static class RelayCodec {
+
+        @Param({EventCodecs.JSON, EventCodecs.SMILE})
+        public String format;
+
+        EventCodec codec;
+
+        @Setup
+        public void setUp() {
+            codec = new EventCodecs(new JacksonConfig().objectMapper()).forFormat(format);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.lorettabank.shared.outbox;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lorettabank.shared.partition.RangePartitionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class OutboxRetentionTest {
+
+    private static final String DROP_LEGACY = "DROP TABLE IF EXISTS outbox_events_archive_legacy";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private OutboxRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString()))
+                .thenReturn(true);
+        retention =
+                new OutboxRetention(
+                        mock(RangePartitionManager.class),
+                        jdbcTemplate,
+                        new SimpleMeterRegistry(),
+                        1,
+                        7,
+                        90);
+    }
+
+    @Test
+    void shouldDropLegacyArchiveOnceItsNewestRowExpires() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDate.class)))
+                .thenReturn(LocalDate.now().minusDays(91));
+
+        retention.maintain();
+
+        verify(jdbcTemplate).execute(DROP_LEGACY);
+    }
+
+    @Test
+    void shouldKeepLegacyArchiveWhileRowsAreInRetention() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDate.class)))
+                .thenReturn(LocalDate.now().minusDays(30));
+
+        retention.maintain();
+
+        verify(jdbcTemplate, never()).execute(DROP_LEGACY);
+    }
+}
@@ -1,12 +1,16 @@
 package com.lorettabank.transaction.client;
 
 import com.lorettabank.shared.exception.BusinessException;
+import com.lorettabank.shared.exception.DuplicateResourceException;
 import com.lorettabank.transaction.dto.AccountBalanceResponse;
+import com.lorettabank.transaction.dto.AccountTransferResponse;
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -28,9 +32,10 @@ public class AccountClient {
         this.webClient = accountServiceWebClient;
     }
 
-    public AccountBalanceResponse getAccount(Long accountId) {
+    public Mono<AccountBalanceResponse> getAccount(Long accountId) {
         log.debug("Fetching account details for accountId={}", accountId);
-        return webClient.get()
+        return webClient
+                .get()
                 .uri("/api/v1/accounts/{id}", accountId)
                 .header(HEADER_USER_ID, SYSTEM_USER_ID)
                 .header(HEADER_USER_ROLES, SYSTEM_ROLE)
@@ -47,22 +52,27 @@ public class AccountClient {
                                                                                 + accountId
                                                                                 + ": "
                                                                                 + body))))
-                .bodyToMono(AccountBalanceResponse.class)
-                .block();
+                .bodyToMono(AccountBalanceResponse.class);
     }
 
-    public void debit(Long accountId, BigDecimal amount, String reference) {
+    public Mono<AccountBalanceResponse> debit(Long accountId, BigDecimal amount, String reference) {
+        return debit(null, accountId, amount, reference);
+    }
+
+    public Mono<AccountBalanceResponse> debit(
+            String postingId, Long accountId, BigDecimal amount, String reference) {
         log.debug(
-                "Debiting accountId={}, amount={}, reference={}",
+                "Debiting postingId={}, accountId={}, amount={}, reference={}",
+                postingId,
                 accountId,
                 amount,
                 reference);
-        webClient
+        return webClient
                 .post()
                 .uri("/api/v1/accounts/{id}/withdraw", accountId)
                 .header(HEADER_USER_ID, SYSTEM_USER_ID)
                 .header(HEADER_USER_ROLES, SYSTEM_ROLE)
-                .bodyValue(Map.of("amount", amount, "reference", reference))
+                .bodyValue(postingBody(postingId, amount, reference))
                 .retrieve()
                 .onStatus(
                         HttpStatusCode::isError,
@@ -76,22 +86,28 @@ public class AccountClient {
                                                                                 + accountId
                                                                                 + ": "
                                                                                 + body))))
-                .toBodilessEntity()
-                .block();
+                .bodyToMono(AccountBalanceResponse.class);
     }
 
-    public void credit(Long accountId, BigDecimal amount, String reference) {
+    public Mono<AccountBalanceResponse> credit(
+            Long accountId, BigDecimal amount, String reference) {
+        return credit(null, accountId, amount, reference);
+    }
+
+    public Mono<AccountBalanceResponse> credit(
+            String postingId, Long accountId, BigDecimal amount, String reference) {
         log.debug(
-                "Crediting accountId={}, amount={}, reference={}",
+                "Crediting postingId={}, accountId={}, amount={}, reference={}",
+                postingId,
                 accountId,
                 amount,
                 reference);
-        webClient
+        return webClient
                 .post()
                 .uri("/api/v1/accounts/{id}/deposit", accountId)
                 .header(HEADER_USER_ID, SYSTEM_USER_ID)
                 .header(HEADER_USER_ROLES, SYSTEM_ROLE)
-                .bodyValue(Map.of("amount", amount, "reference", reference))
+                .bodyValue(postingBody(postingId, amount, reference))
                 .retrieve()
                 .onStatus(
                         HttpStatusCode::isError,
@@ -105,7 +121,76 @@ public class AccountClient {
                                                                                 + accountId
                                                                                 + ": "
                                                                                 + body))))
-                .toBodilessEntity()
-                .block();
+                .bodyToMono(AccountBalanceResponse.class);
+    }
+
+    public Mono<AccountTransferResponse> transfer(
+            String transferId,
+            Long sourceAccountId,
+            Long targetAccountId,
+            BigDecimal amount,
+            String reference) {
+        log.debug(
+                "Transferring transferId={}, source={}, target={}, amount={}",
+                transferId,
+                sourceAccountId,
+                targetAccountId,
+                amount);
+        return webClient
+                .post()
+                .uri("/api/v1/accounts/internal/transfers")
+                .header(HEADER_USER_ID, SYSTEM_USER_ID)
+                .header(HEADER_USER_ROLES, SYSTEM_ROLE)
+                .bodyValue(
+                        Map.of(
+                                "transferId", transferId,
+                                "sourceAccountId", sourceAccountId,
+                                "targetAccountId", targetAccountId,
+                                "amount", amount,
+                                "reference", reference))
+                .retrieve()
+                .onStatus(
+                        status -> status.isSameCodeAs(HttpStatus.CONFLICT),
+                        response ->
+                                response.bodyToMono(String.class)
+                                        .flatMap(
+                                                body ->
+                                                        Mono.error(
+                                                                new DuplicateResourceException(
+                                                                        "Transfer conflict: "
+                                                                                + body))))
+                .onStatus(
+                        HttpStatusCode::is4xxClientError,
+                        response ->
+                                response.bodyToMono(String.class)
+                                        .flatMap(
+                                                body ->
+                                                        Mono.error(
+                                                                new BusinessException(
+                                                                        "Transfer rejected: "
+                                                                                + body))))
+                .bodyToMono(AccountTransferResponse.class);
+    }
+
+    public Mono<AccountTransferResponse> voidTransfer(String transferId) {
+        log.debug("Voiding transferId={}", transferId);
+        return webClient
+                .post()
+                .uri("/api/v1/accounts/internal/transfers/{transferId}/void", transferId)
+                .header(HEADER_USER_ID, SYSTEM_USER_ID)
+                .header(HEADER_USER_ROLES, SYSTEM_ROLE)
+                .retrieve()
+                .bodyToMono(AccountTransferResponse.class);
+    }
+
+    private static Map<String, Object> postingBody(
+            String postingId, BigDecimal amount, String reference) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("amount", amount);
+        body.put("reference", reference);
+        if (postingId != null) {
+            body.put("postingId", postingId);
+        }
+        return body;
     }
 }
@@ -1,9 +1,14 @@
 package com.lorettabank.transaction.config;
 
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
@@ -14,10 +19,43 @@ public class WebClientConfig {
     @Value("${customer-service.url}")
     private String customerServiceUrl;
 
+    @Value("${account-service.http.max-connections:200}")
+    private int accountMaxConnections;
+
+    @Value("${account-service.http.pending-acquire-max-count:1000}")
+    private int accountPendingAcquireMaxCount;
+
+    @Value("${account-service.http.pending-acquire-timeout-ms:2000}")
+    private long accountPendingAcquireTimeoutMs;
+
+    @Value("${account-service.http.max-idle-time-ms:30000}")
+    private long accountMaxIdleTimeMs;
+
+    @Value("${account-service.http.connect-timeout-ms:1000}")
+    private int accountConnectTimeoutMs;
+
+    @Value("${account-service.http.response-timeout-ms:5000}")
+    private long accountResponseTimeoutMs;
+
     @Bean
     public WebClient accountServiceWebClient() {
+        ConnectionProvider connectionProvider =
+                ConnectionProvider.builder("account-service")
+                        .maxConnections(accountMaxConnections)
+                        .pendingAcquireMaxCount(accountPendingAcquireMaxCount)
+                        .pendingAcquireTimeout(Duration.ofMillis(accountPendingAcquireTimeoutMs))
+                        .maxIdleTime(Duration.ofMillis(accountMaxIdleTimeMs))
+                        .evictInBackground(Duration.ofMillis(accountMaxIdleTimeMs))
+                        .metrics(true)
+                        .build();
+        HttpClient httpClient =
+                HttpClient.create(connectionProvider)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, accountConnectTimeoutMs)
+                        .responseTimeout(Duration.ofMillis(accountResponseTimeoutMs));
+
         return WebClient.builder()
                 .baseUrl(accountServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 
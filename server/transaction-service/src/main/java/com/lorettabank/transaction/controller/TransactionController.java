@@ -1,20 +1,32 @@
 package com.lorettabank.transaction.controller;
 
+import com.lorettabank.shared.dto.CursorPage;
 import com.lorettabank.shared.dto.PagedResponse;
 import com.lorettabank.shared.exception.ForbiddenException;
 import com.lorettabank.shared.security.JwtConstants;
 import com.lorettabank.transaction.client.AccountClient;
 import com.lorettabank.transaction.client.CustomerClient;
 import com.lorettabank.transaction.dto.AccountBalanceResponse;
+import com.lorettabank.transaction.dto.BalanceAtResponse;
 import com.lorettabank.transaction.dto.DepositRequest;
 import com.lorettabank.transaction.dto.LedgerEntryResponse;
 import com.lorettabank.transaction.dto.TransactionResponse;
 import com.lorettabank.transaction.dto.WithdrawRequest;
+import com.lorettabank.transaction.service.ExportFormat;
+import com.lorettabank.transaction.service.HistoryExporter;
+import com.lorettabank.transaction.service.LedgerBalanceService;
 import com.lorettabank.transaction.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,23 +38,39 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/transactions")
 @Tag(name = "Transactions", description = "Deposit, withdrawal, and transaction query operations")
 public class TransactionController {
 
+    private static final String EXPORT_TIMEOUT_KEY = "transaction-export-timeout";
+
     private final TransactionService transactionService;
+    private final HistoryExporter historyExporter;
+    private final LedgerBalanceService ledgerBalanceService;
     private final AccountClient accountClient;
     private final CustomerClient customerClient;
+    private final CallableProcessingInterceptor exportTimeout;
 
     public TransactionController(
             TransactionService transactionService,
+            HistoryExporter historyExporter,
+            LedgerBalanceService ledgerBalanceService,
             AccountClient accountClient,
-            CustomerClient customerClient) {
+            CustomerClient customerClient,
+            @Value("${transaction.export.timeout-ms:1800000}") long exportTimeoutMs) {
         this.transactionService = transactionService;
+        this.historyExporter = historyExporter;
+        this.ledgerBalanceService = ledgerBalanceService;
         this.accountClient = accountClient;
         this.customerClient = customerClient;
+        this.exportTimeout = asyncTimeout(exportTimeoutMs);
     }
 
     @PostMapping("/deposit")
@@ -104,12 +132,110 @@ public class TransactionController {
                 transactionService.getLedgerEntriesForAccount(accountId, page, size));
     }
 
+    @GetMapping("/account/{accountId}/scroll")
+    @Operation(summary = "Scroll transactions for an account using a cursor")
+    public ResponseEntity<CursorPage<TransactionResponse>> scrollTransactionsForAccount(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "20") int size) {
+        assertCustomerOwnsAccount(accountId);
+        return ResponseEntity.ok(
+                transactionService.scrollTransactionsForAccount(accountId, cursor, from, to, size));
+    }
+
+    @GetMapping("/account/{accountId}/ledger/scroll")
+    @Operation(summary = "Scroll ledger entries for an account using a cursor")
+    public ResponseEntity<CursorPage<LedgerEntryResponse>> scrollLedgerEntries(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "20") int size) {
+        assertCustomerOwnsAccount(accountId);
+        return ResponseEntity.ok(
+                transactionService.scrollLedgerEntriesForAccount(
+                        accountId, cursor, from, to, size));
+    }
+
+    @GetMapping("/account/{accountId}/balance")
+    @Operation(summary = "Get an account's ledger balance as of an instant")
+    public ResponseEntity<BalanceAtResponse> getBalanceAt(
+            @PathVariable Long accountId, @RequestParam(required = false) Instant at) {
+        assertCustomerOwnsAccount(accountId);
+        return ResponseEntity.ok(
+                ledgerBalanceService.getBalanceAt(accountId, at != null ? at : Instant.now()));
+    }
+
+    @GetMapping("/account/{accountId}/export")
+    @Operation(summary = "Export transactions for an account as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportTransactionsForAccount(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+        assertCustomerOwnsAccount(accountId);
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        return exportResponse(
+                request,
+                "account-" + accountId + "-transactions",
+                exportFormat,
+                historyExporter.exportTransactions(accountId, from, to, exportFormat));
+    }
+
+    @GetMapping("/account/{accountId}/ledger/export")
+    @Operation(summary = "Export ledger entries for an account as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportLedgerEntries(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+        assertCustomerOwnsAccount(accountId);
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        return exportResponse(
+                request,
+                "account-" + accountId + "-ledger",
+                exportFormat,
+                historyExporter.exportLedgerEntries(accountId, from, to, exportFormat));
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(
+            HttpServletRequest request,
+            String name,
+            ExportFormat format,
+            StreamingResponseBody body) {
+        WebAsyncUtils.getAsyncManager(request)
+                .registerCallableInterceptor(EXPORT_TIMEOUT_KEY, exportTimeout);
+        ContentDisposition disposition =
+                ContentDisposition.attachment().filename(name + "." + format.extension()).build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    // Exports stream for as long as the history takes to write, so only they get the long
+    // timeout; it is applied just before the streaming body starts async processing.
+    private static CallableProcessingInterceptor asyncTimeout(long timeoutMs) {
+        return new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                if (request instanceof AsyncWebRequest asyncRequest) {
+                    asyncRequest.setTimeout(timeoutMs);
+                }
+            }
+        };
+    }
+
     private void assertCustomerOwnsAccount(Long accountId) {
         if (!hasRole(JwtConstants.ROLE_CUSTOMER)) {
             return;
         }
 
-        AccountBalanceResponse account = accountClient.getAccount(accountId);
+        AccountBalanceResponse account = accountClient.getAccount(accountId).block();
         Long authenticatedCustomerId = getAuthenticatedCustomerId();
         if (account.getCustomerId() == null
                 || !account.getCustomerId().equals(authenticatedCustomerId)) {
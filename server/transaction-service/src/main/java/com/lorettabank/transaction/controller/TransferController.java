@@ -1,15 +1,16 @@
 package com.lorettabank.transaction.controller;
 
-import com.lorettabank.transaction.dto.TransferRequest;
-import com.lorettabank.transaction.dto.TransferResponse;
+import com.lorettabank.shared.exception.ForbiddenException;
+import com.lorettabank.shared.security.JwtConstants;
 import com.lorettabank.transaction.client.AccountClient;
 import com.lorettabank.transaction.client.CustomerClient;
+import com.lorettabank.transaction.dto.TransferRequest;
+import com.lorettabank.transaction.dto.TransferResponse;
 import com.lorettabank.transaction.service.TransferService;
-import com.lorettabank.shared.exception.ForbiddenException;
-import com.lorettabank.shared.security.JwtConstants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.net.URI;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -27,6 +28,8 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Transfers", description = "Account-to-account transfer operations")
 public class TransferController {
 
+    private static final String PREFER_RESPOND_ASYNC = "respond-async";
+
     private final TransferService transferService;
     private final AccountClient accountClient;
     private final CustomerClient customerClient;
@@ -41,12 +44,22 @@ public class TransferController {
     }
 
     @PostMapping
-    @Operation(summary = "Initiate a transfer between accounts")
+    @Operation(
+            summary = "Initiate a transfer between accounts",
+            description = "Send Prefer: respond-async to get 202 and poll GET /{id}")
     public ResponseEntity<TransferResponse> initiateTransfer(
             @Valid @RequestBody TransferRequest request,
-            @RequestHeader("Idempotency-Key") String idempotencyKey) {
+            @RequestHeader("Idempotency-Key") String idempotencyKey,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
         assertWriteAllowed();
         assertCustomerOwnsSourceAccount(request.getSourceAccountId());
+        if (prefer != null && prefer.contains(PREFER_RESPOND_ASYNC)) {
+            TransferResponse response = transferService.submitTransfer(request, idempotencyKey);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/transfers/" + response.getTransferId()))
+                    .body(response);
+        }
+
         TransferResponse response = transferService.initiateTransfer(request, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -62,7 +75,7 @@ public class TransferController {
             return;
         }
 
-        Long customerId = accountClient.getAccount(sourceAccountId).getCustomerId();
+        Long customerId = accountClient.getAccount(sourceAccountId).block().getCustomerId();
         if (customerId == null || !customerId.equals(getAuthenticatedCustomerId())) {
             throw new ForbiddenException("Customers can only transfer from their own accounts");
         }
@@ -0,0 +1,24 @@
+package com.lorettabank.transaction.dto;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTransferResponse {
+
+    private String transferId;
+    private String status;
+    private Long sourceAccountId;
+    private BigDecimal sourceBalanceAfter;
+    private Long targetAccountId;
+    private BigDecimal targetBalanceAfter;
+    private BigDecimal amount;
+    private String currency;
+    private String reference;
+}
@@ -0,0 +1,20 @@
+package com.lorettabank.transaction.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceAtResponse {
+
+    private Long accountId;
+    private Instant at;
+    private BigDecimal balance;
+    private String currency;
+}
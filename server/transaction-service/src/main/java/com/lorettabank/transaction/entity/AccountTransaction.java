@@ -0,0 +1,33 @@
+package com.lorettabank.transaction.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Table(name = "account_transactions")
+@IdClass(AccountTransactionId.class)
+@Immutable
+@Getter
+@NoArgsConstructor
+public class AccountTransaction {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Id
+    @Column(name = "transaction_id")
+    private UUID transactionId;
+}
@@ -0,0 +1,18 @@
+package com.lorettabank.transaction.entity;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTransactionId implements Serializable {
+
+    private Long accountId;
+    private Instant createdAt;
+    private UUID transactionId;
+}
@@ -7,9 +7,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,11 +29,15 @@ import org.hibernate.annotations.CreationTimestamp;
 public class LedgerEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entries_id_seq")
+    @SequenceGenerator(
+            name = "ledger_entries_id_seq",
+            sequenceName = "ledger_entries_id_seq",
+            allocationSize = 50)
     private Long id;
 
-    @Column(name = "transaction_id", nullable = false, length = 36)
-    private String transactionId;
+    @Column(name = "transaction_id", nullable = false)
+    private UUID transactionId;
 
     @Column(name = "account_id", nullable = false)
     private Long accountId;
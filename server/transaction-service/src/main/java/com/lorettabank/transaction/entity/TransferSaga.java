@@ -8,6 +8,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,8 +27,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class TransferSaga {
 
     @Id
-    @Column(length = 36)
-    private String id;
+    @Column(name = "id")
+    private UUID id;
 
     @Column(name = "idempotency_key", nullable = false, unique = true, length = 255)
     private String idempotencyKey;
@@ -0,0 +1,23 @@
+package com.lorettabank.transaction.idempotency;
+
+public record IdempotencyClaim<T>(Status status, T response, String token) {
+
+    public enum Status {
+        CLAIMED,
+        IN_PROGRESS,
+        COMPLETED,
+        UNAVAILABLE
+    }
+
+    static <T> IdempotencyClaim<T> of(Status status) {
+        return new IdempotencyClaim<>(status, null, null);
+    }
+
+    static <T> IdempotencyClaim<T> claimed(String token) {
+        return new IdempotencyClaim<>(Status.CLAIMED, null, token);
+    }
+
+    static <T> IdempotencyClaim<T> completed(T response) {
+        return new IdempotencyClaim<>(Status.COMPLETED, response, null);
+    }
+}
@@ -0,0 +1,185 @@
+package com.lorettabank.transaction.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.shared.exception.DuplicateResourceException;
+import com.lorettabank.transaction.idempotency.IdempotencyClaim.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IdempotencyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyRegistry.class);
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String PENDING = "PENDING";
+
+    // A pending claim carries the claimant's token, so a request whose claim outlived the
+    // pending TTL cannot delete or overwrite the claim a later request took over
+    private static final RedisScript<Long> RELEASE_IF_OWNER =
+            new DefaultRedisScript<>(
+                    "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                            + "return redis.call('DEL', KEYS[1])",
+                    Long.class);
+    private static final RedisScript<Long> COMPLETE_IF_OWNER =
+            new DefaultRedisScript<>(
+                    "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                            + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1",
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration pendingTtl;
+    private final Duration completedTtl;
+
+    public IdempotencyRegistry(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${transaction.idempotency.pending-ttl-ms:60000}") long pendingTtlMs,
+            @Value("${transaction.idempotency.completed-ttl-ms:86400000}") long completedTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.pendingTtl = Duration.ofMillis(pendingTtlMs);
+        this.completedTtl = Duration.ofMillis(completedTtlMs);
+    }
+
+    public <T> T execute(
+            String scope,
+            String idempotencyKey,
+            Class<T> responseType,
+            Supplier<Optional<T>> existing,
+            Supplier<T> action,
+            Predicate<T> isFinal) {
+        IdempotencyClaim<T> claim = claim(scope, idempotencyKey, responseType);
+        if (claim.status() == Status.COMPLETED) {
+            log.info("Replaying {} response for idempotencyKey={}", scope, idempotencyKey);
+            return claim.response();
+        }
+
+        boolean claimed = claim.status() == Status.CLAIMED;
+        T response;
+        try {
+            Optional<T> stored = existing.get();
+            if (stored.isPresent()) {
+                log.info("Returning existing {} for idempotencyKey={}", scope, idempotencyKey);
+                response = stored.get();
+            } else if (claim.status() == Status.IN_PROGRESS) {
+                throw new DuplicateResourceException(
+                        "A request with Idempotency-Key " + idempotencyKey + " is in progress");
+            } else {
+                response = action.get();
+            }
+        } catch (RuntimeException e) {
+            if (claimed) {
+                release(scope, idempotencyKey, claim.token());
+            }
+            throw e;
+        }
+
+        if (claimed) {
+            if (isFinal.test(response)) {
+                complete(scope, idempotencyKey, claim.token(), response);
+            } else {
+                release(scope, idempotencyKey, claim.token());
+            }
+        }
+        return response;
+    }
+
+    <T> IdempotencyClaim<T> claim(String scope, String idempotencyKey, Class<T> responseType) {
+        String key = key(scope, idempotencyKey);
+        String token = PENDING + ":" + UUID.randomUUID();
+        IdempotencyClaim<T> claim;
+        try {
+            if (Boolean.TRUE.equals(
+                    redisTemplate.opsForValue().setIfAbsent(key, token, pendingTtl))) {
+                claim = IdempotencyClaim.claimed(token);
+            } else {
+                claim = decode(redisTemplate.opsForValue().get(key), responseType);
+            }
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Idempotency registry unavailable, falling back to database: {}",
+                    e.getMessage());
+            claim = IdempotencyClaim.of(Status.UNAVAILABLE);
+        }
+        meterRegistry
+                .counter(
+                        "idempotency.claims",
+                        "scope",
+                        scope,
+                        "result",
+                        claim.status().name().toLowerCase())
+                .increment();
+        return claim;
+    }
+
+    private <T> IdempotencyClaim<T> decode(String value, Class<T> responseType) {
+        if (value == null) {
+            return IdempotencyClaim.of(Status.UNAVAILABLE);
+        }
+        if (value.startsWith(PENDING)) {
+            return IdempotencyClaim.of(Status.IN_PROGRESS);
+        }
+        try {
+            return IdempotencyClaim.completed(objectMapper.readValue(value, responseType));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable idempotency record: {}", e.getMessage());
+            return IdempotencyClaim.of(Status.UNAVAILABLE);
+        }
+    }
+
+    private void complete(String scope, String idempotencyKey, String token, Object response) {
+        try {
+            Long written =
+                    redisTemplate.execute(
+                            COMPLETE_IF_OWNER,
+                            List.of(key(scope, idempotencyKey)),
+                            token,
+                            objectMapper.writeValueAsString(response),
+                            String.valueOf(completedTtl.toMillis()));
+            if (written != null && written == 0) {
+                log.warn(
+                        "Idempotency claim for idempotencyKey={} expired before completion",
+                        idempotencyKey);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn(
+                    "Failed to record idempotent response for idempotencyKey={}: {}",
+                    idempotencyKey,
+                    e.getMessage());
+            release(scope, idempotencyKey, token);
+        }
+    }
+
+    private void release(String scope, String idempotencyKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_IF_OWNER, List.of(key(scope, idempotencyKey)), token);
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Failed to release idempotency claim for idempotencyKey={}: {}",
+                    idempotencyKey,
+                    e.getMessage());
+        }
+    }
+
+    private static String key(String scope, String idempotencyKey) {
+        return KEY_PREFIX + scope + ":" + idempotencyKey;
+    }
+}
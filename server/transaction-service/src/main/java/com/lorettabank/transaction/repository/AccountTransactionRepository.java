@@ -0,0 +1,43 @@
+package com.lorettabank.transaction.repository;
+
+import com.lorettabank.transaction.entity.AccountTransaction;
+import com.lorettabank.transaction.entity.AccountTransactionId;
+import com.lorettabank.transaction.entity.Transaction;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountTransactionRepository
+        extends JpaRepository<AccountTransaction, AccountTransactionId> {
+
+    @Query(
+            value =
+                    "SELECT t FROM AccountTransaction a JOIN Transaction t"
+                            + " ON t.id = a.transactionId AND t.createdAt = a.createdAt"
+                            + " WHERE a.accountId = :accountId"
+                            + " ORDER BY a.createdAt DESC, a.transactionId DESC",
+            countQuery = "SELECT count(a) FROM AccountTransaction a WHERE a.accountId = :accountId")
+    Page<Transaction> findTransactionPage(@Param("accountId") Long accountId, Pageable pageable);
+
+    @Query(
+            "SELECT t FROM AccountTransaction a JOIN Transaction t"
+                    + " ON t.id = a.transactionId AND t.createdAt = a.createdAt"
+                    + " WHERE a.accountId = :accountId"
+                    + " AND a.createdAt >= :from"
+                    + " AND a.createdAt <= :createdAt"
+                    + " AND (a.createdAt < :createdAt OR a.transactionId < :id)"
+                    + " ORDER BY a.createdAt DESC, a.transactionId DESC")
+    List<Transaction> findTransactionsBefore(
+            @Param("accountId") Long accountId,
+            @Param("from") Instant from,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+}
@@ -1,16 +1,36 @@
 package com.lorettabank.transaction.repository;
 
 import com.lorettabank.transaction.entity.LedgerEntry;
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
 
-    List<LedgerEntry> findByTransactionId(String transactionId);
+    List<LedgerEntry> findByTransactionId(UUID transactionId);
+
+    List<LedgerEntry> findByTransactionIdAndCreatedAtGreaterThanEqual(
+            UUID transactionId, Instant createdAt);
 
     Page<LedgerEntry> findByAccountIdOrderByCreatedAtDesc(Long accountId, Pageable pageable);
+
+    @Query(
+            "SELECT e FROM LedgerEntry e WHERE e.accountId = :accountId"
+                    + " AND e.createdAt >= :from"
+                    + " AND e.createdAt <= :createdAt"
+                    + " AND (e.createdAt < :createdAt OR e.id < :id)"
+                    + " ORDER BY e.createdAt DESC, e.id DESC")
+    List<LedgerEntry> findByAccountIdBefore(
+            @Param("accountId") Long accountId,
+            @Param("from") Instant from,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
 }
@@ -1,17 +1,90 @@
 package com.lorettabank.transaction.repository;
 
 import com.lorettabank.transaction.entity.Transaction;
+import com.lorettabank.transaction.entity.TransactionStatus;
+import com.lorettabank.transaction.entity.TransactionType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, String> {
+public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
 
-    Optional<Transaction> findByIdempotencyKey(String idempotencyKey);
+    @Query(
+            "SELECT t FROM TransactionIdempotencyKey k"
+                    + " JOIN Transaction t ON t.id = k.transactionId AND t.createdAt = k.createdAt"
+                    + " WHERE k.idempotencyKey = :idempotencyKey")
+    Optional<Transaction> findByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    Optional<Transaction> findByIdAndCreatedAtBetween(UUID id, Instant from, Instant to);
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO transaction_idempotency_keys"
+                            + " (idempotency_key, transaction_id, created_at)"
+                            + " VALUES (:idempotencyKey, :transactionId, LOCALTIMESTAMP)"
+                            + " ON CONFLICT (idempotency_key) DO NOTHING",
+            nativeQuery = true)
+    int claimIdempotencyKey(
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("transactionId") UUID transactionId);
+
+    @Query(
+            "SELECT t FROM Transaction t"
+                    + " WHERE t.status = com.lorettabank.transaction.entity.TransactionStatus.PENDING"
+                    + " AND t.type IN :types AND t.createdAt < :staleBefore ORDER BY t.createdAt")
+    List<Transaction> findStale(
+            @Param("types") Collection<TransactionType> types,
+            @Param("staleBefore") Instant staleBefore,
+            Pageable pageable);
+
+    @Modifying
+    @Query(
+            "UPDATE Transaction t SET t.status = :status, t.updatedAt = :updatedAt"
+                    + " WHERE t.id = :id AND t.createdAt = :createdAt"
+                    + " AND t.status = com.lorettabank.transaction.entity.TransactionStatus.PENDING")
+    int settlePending(
+            @Param("id") UUID id,
+            @Param("createdAt") Instant createdAt,
+            @Param("status") TransactionStatus status,
+            @Param("updatedAt") Instant updatedAt);
 
     Page<Transaction> findBySourceAccountIdOrTargetAccountId(
             Long sourceAccountId, Long targetAccountId, Pageable pageable);
+
+    @Query(
+            "SELECT t FROM Transaction t WHERE t.sourceAccountId = :accountId"
+                    + " AND t.createdAt >= :from"
+                    + " AND t.createdAt <= :createdAt"
+                    + " AND (t.createdAt < :createdAt OR t.id < :id)"
+                    + " ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transaction> findBySourceAccountIdBefore(
+            @Param("accountId") Long accountId,
+            @Param("from") Instant from,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    @Query(
+            "SELECT t FROM Transaction t WHERE t.targetAccountId = :accountId"
+                    + " AND t.createdAt >= :from"
+                    + " AND t.createdAt <= :createdAt"
+                    + " AND (t.createdAt < :createdAt OR t.id < :id)"
+                    + " ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transaction> findByTargetAccountIdBefore(
+            @Param("accountId") Long accountId,
+            @Param("from") Instant from,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
 }
@@ -1,12 +1,41 @@
 package com.lorettabank.transaction.repository;
 
+import com.lorettabank.transaction.entity.SagaStatus;
 import com.lorettabank.transaction.entity.TransferSaga;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface TransferSagaRepository extends JpaRepository<TransferSaga, String> {
+public interface TransferSagaRepository extends JpaRepository<TransferSaga, UUID> {
 
     Optional<TransferSaga> findByIdempotencyKey(String idempotencyKey);
+
+    @Query(
+            "SELECT s FROM TransferSaga s WHERE s.status IN :statuses"
+                    + " AND s.updatedAt < :staleBefore ORDER BY s.updatedAt")
+    List<TransferSaga> findStale(
+            @Param("statuses") Collection<SagaStatus> statuses,
+            @Param("staleBefore") Instant staleBefore,
+            Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(
+            "UPDATE TransferSaga s SET s.updatedAt = :claimedAt"
+                    + " WHERE s.id = :id AND s.status = :status AND s.updatedAt = :updatedAt")
+    int claimStale(
+            @Param("id") UUID id,
+            @Param("status") SagaStatus status,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("claimedAt") Instant claimedAt);
 }
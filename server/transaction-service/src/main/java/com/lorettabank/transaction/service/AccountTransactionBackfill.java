@@ -0,0 +1,126 @@
+package com.lorettabank.transaction.service;
+
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class AccountTransactionBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountTransactionBackfill.class);
+
+    private static final String CLAIM_PROGRESS =
+            "SELECT last_transaction_id FROM account_transactions_backfill"
+                    + " WHERE id = 1 AND completed_at IS NULL FOR UPDATE SKIP LOCKED";
+
+    private static final String LINK_BATCH =
+            "WITH batch AS ("
+                    + " SELECT id, source_account_id, target_account_id, created_at"
+                    + " FROM transactions WHERE id > ? ORDER BY id LIMIT ?),"
+                    + " linked AS ("
+                    + " INSERT INTO account_transactions (account_id, created_at, transaction_id)"
+                    + " SELECT source_account_id, created_at, id FROM batch"
+                    + " WHERE source_account_id IS NOT NULL"
+                    + " UNION ALL"
+                    + " SELECT target_account_id, created_at, id FROM batch"
+                    + " WHERE target_account_id IS NOT NULL"
+                    + " ON CONFLICT DO NOTHING)"
+                    + " SELECT (SELECT id FROM batch ORDER BY id DESC LIMIT 1)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private volatile boolean complete;
+
+    public AccountTransactionBackfill(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${transaction.history.backfill.batch-size:1000}") int batchSize,
+            @Value("${transaction.history.backfill.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${transaction.history.backfill.interval-ms:1000}")
+    public void run() {
+        if (complete) {
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerRun && !complete; i++) {
+                if (!linkNextBatch()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Account transaction backfill failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean linkNextBatch() {
+        BatchOutcome outcome =
+                transactionTemplate.execute(
+                        status -> {
+                            List<UUID> claimed =
+                                    jdbcTemplate.queryForList(CLAIM_PROGRESS, UUID.class);
+                            if (claimed.isEmpty()) {
+                                return BatchOutcome.NOT_CLAIMED;
+                            }
+
+                            UUID lastId =
+                                    jdbcTemplate.queryForObject(
+                                            LINK_BATCH, UUID.class, claimed.get(0), batchSize);
+                            if (lastId == null) {
+                                jdbcTemplate.update(
+                                        "UPDATE account_transactions_backfill"
+                                                + " SET completed_at = LOCALTIMESTAMP WHERE id = 1");
+                                return BatchOutcome.COMPLETED;
+                            }
+
+                            jdbcTemplate.update(
+                                    "UPDATE account_transactions_backfill"
+                                            + " SET last_transaction_id = ? WHERE id = 1",
+                                    lastId);
+                            return BatchOutcome.LINKED;
+                        });
+
+        if (outcome == BatchOutcome.COMPLETED) {
+            complete = true;
+            log.info("Account transaction backfill completed");
+        } else if (outcome == BatchOutcome.NOT_CLAIMED) {
+            complete = isMarkedComplete();
+        }
+        return outcome == BatchOutcome.LINKED;
+    }
+
+    private boolean isMarkedComplete() {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM account_transactions_backfill"
+                                + " WHERE id = 1 AND completed_at IS NOT NULL)",
+                        Boolean.class));
+    }
+
+    private enum BatchOutcome {
+        LINKED,
+        COMPLETED,
+        NOT_CLAIMED
+    }
+}
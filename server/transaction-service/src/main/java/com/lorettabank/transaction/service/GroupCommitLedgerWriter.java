@@ -0,0 +1,360 @@
+package com.lorettabank.transaction.service;
+
+import com.lorettabank.shared.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class GroupCommitLedgerWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitLedgerWriter.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long STOP_TIMEOUT_MS = 30_000;
+
+    private static final int QUEUED = 0;
+    private static final int STARTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long writeTimeoutMs;
+    private final BlockingQueue<Write<?>> queue;
+    private final Counter commitCounter;
+    private final Counter fallbackCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer waitTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public GroupCommitLedgerWriter(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${transaction.group-commit.enabled:true}") boolean enabled,
+            @Value("${transaction.group-commit.max-batch-size:64}") int maxBatchSize,
+            @Value("${transaction.group-commit.max-wait-us:300}") long maxWaitMicros,
+            @Value("${transaction.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${transaction.group-commit.write-timeout-ms:30000}") long writeTimeoutMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("ledger.group-commit.queue.depth", queue, BlockingQueue::size)
+                .description("Ledger writes waiting for the next group commit")
+                .register(meterRegistry);
+        this.commitCounter =
+                Counter.builder("ledger.group-commit.commits")
+                        .description("Database commits issued by the ledger writer")
+                        .register(meterRegistry);
+        this.fallbackCounter =
+                Counter.builder("ledger.group-commit.fallbacks")
+                        .description(
+                                "Group commits rolled back by a failed flush and rerun without"
+                                        + " the failing write")
+                        .register(meterRegistry);
+        this.batchSizeSummary =
+                DistributionSummary.builder("ledger.group-commit.batch.size")
+                        .description("Ledger writes committed per database transaction")
+                        .baseUnit("writes")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        this.waitTimer =
+                Timer.builder("ledger.group-commit.wait")
+                        .description("Time a ledger write waits before its group commit starts")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+    }
+
+    public <T> T write(Supplier<T> work) {
+        if (!running) {
+            return commitAlone(work);
+        }
+
+        Write<T> write = new Write<>(work, System.nanoTime());
+        try {
+            queue.put(write);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing ledger write", e);
+        }
+        if (!running && queue.remove(write)) {
+            return commitAlone(work);
+        }
+
+        try {
+            return write.result.get(writeTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            if (write.cancel()) {
+                queue.remove(write);
+                throw new ServiceUnavailableException(
+                        "Ledger write was not started within " + writeTimeoutMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while awaiting ledger write", e);
+        }
+
+        // The writer already started this write, so failing now would hide whether it committed.
+        log.warn("Ledger write still running after {} ms, awaiting its outcome", writeTimeoutMs);
+        try {
+            return write.result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime
+                ? runtime
+                : new IllegalStateException(cause);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Group commit disabled, ledger writes commit individually");
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "ledger-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info(
+                "Started ledger group commit: maxBatchSize={}, maxWaitNanos={}",
+                maxBatchSize,
+                maxWaitNanos);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void runWriter() {
+        List<Write<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Write<?> first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.stream().filter(Write::start).forEach(Write::commitAlone);
+                break;
+            }
+            commitBatch(batch);
+            batch.clear();
+        }
+
+        Write<?> abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            if (abandoned.start()) {
+                abandoned.commitAlone();
+            }
+        }
+    }
+
+    private void collect(List<Write<?>> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            Write<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commitBatch(List<Write<?>> batch) {
+        batch.removeIf(write -> !write.start());
+        if (batch.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        for (Write<?> write : batch) {
+            waitTimer.record(started - write.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (batch.size() == 1) {
+            batch.get(0).commitAlone();
+            return;
+        }
+
+        List<Write<?>> pending = batch;
+        while (!pending.isEmpty()) {
+            pending = commitIsolated(pending);
+        }
+    }
+
+    // Each write runs under its own savepoint, so a failing write is rejected alone. Hibernate
+    // still dooms the whole transaction when a flush fails; the writes that had succeeded are then
+    // returned to run again in a fresh transaction. Writes build their entities inside the work,
+    // so a rolled-back attempt leaves nothing behind.
+    private List<Write<?>> commitIsolated(List<Write<?>> writes) {
+        List<Write<?>> rerun = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        for (Write<?> write : writes) {
+                            Object savepoint = status.createSavepoint();
+                            try {
+                                write.run();
+                                status.releaseSavepoint(savepoint);
+                            } catch (RuntimeException e) {
+                                write.reject(e);
+                                if (status.isRollbackOnly()) {
+                                    writes.stream()
+                                            .filter(w -> !w.isRejected())
+                                            .forEach(rerun::add);
+                                    status.setRollbackOnly();
+                                    return;
+                                }
+                                status.rollbackToSavepoint(savepoint);
+                            }
+                        }
+                    });
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} ledger writes failed: {}", writes.size(), e.getMessage());
+            writes.forEach(write -> write.fail(e));
+            return List.of();
+        } catch (Error e) {
+            writes.forEach(write -> write.fail(new IllegalStateException(e)));
+            throw e;
+        }
+
+        if (!rerun.isEmpty()) {
+            fallbackCounter.increment();
+            log.warn(
+                    "Group commit of {} ledger writes rolled back by a failed write, rerunning {}",
+                    writes.size(),
+                    rerun.size());
+        } else {
+            recordCommit(writes.size());
+        }
+        writes.stream().filter(write -> !rerun.contains(write)).forEach(Write::complete);
+        return rerun;
+    }
+
+    private <T> T commitAlone(Supplier<T> work) {
+        T result = transactionTemplate.execute(status -> work.get());
+        recordCommit(1);
+        return result;
+    }
+
+    private void recordCommit(int writes) {
+        commitCounter.increment();
+        batchSizeSummary.record(writes);
+    }
+
+    private final class Write<T> {
+
+        private final Supplier<T> work;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private T value;
+        private RuntimeException error;
+
+        private Write(Supplier<T> work, long enqueuedAt) {
+            this.work = work;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        // The writer and a timed-out caller race to move a queued write out of QUEUED; whoever
+        // wins decides whether it runs or is abandoned.
+        private boolean start() {
+            return state.compareAndSet(QUEUED, STARTED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+
+        private void run() {
+            value = work.get();
+        }
+
+        private void reject(RuntimeException e) {
+            error = e;
+        }
+
+        private boolean isRejected() {
+            return error != null;
+        }
+
+        private void complete() {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        }
+
+        private void fail(RuntimeException e) {
+            result.completeExceptionally(error != null ? error : e);
+        }
+
+        private void commitAlone() {
+            try {
+                result.complete(GroupCommitLedgerWriter.this.commitAlone(work));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
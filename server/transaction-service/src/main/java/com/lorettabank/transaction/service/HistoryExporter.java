@@ -0,0 +1,338 @@
+package com.lorettabank.transaction.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lorettabank.transaction.dto.LedgerEntryResponse;
+import com.lorettabank.transaction.dto.TransactionResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+public class HistoryExporter {
+
+    private static final Instant OPEN_UPPER_BOUND = Instant.parse("9999-12-31T00:00:00Z");
+
+    private static final String TRANSACTION_COLUMNS =
+            "t.id, t.type, t.status, t.source_account_id, t.target_account_id, t.amount,"
+                    + " t.currency, t.description, t.reference, t.idempotency_key,"
+                    + " t.created_at, t.updated_at";
+
+    private static final String LINKED_TRANSACTIONS =
+            "SELECT "
+                    + TRANSACTION_COLUMNS
+                    + " FROM account_transactions a"
+                    + " JOIN transactions t ON t.id = a.transaction_id"
+                    + " AND t.created_at = a.created_at"
+                    + " WHERE a.account_id = ? AND a.created_at >= ? AND a.created_at < ?"
+                    + " ORDER BY a.created_at, a.transaction_id";
+
+    private static final String MATCHED_TRANSACTIONS =
+            "SELECT "
+                    + TRANSACTION_COLUMNS
+                    + " FROM transactions t"
+                    + " WHERE (t.source_account_id = ? OR t.target_account_id = ?)"
+                    + " AND t.created_at >= ? AND t.created_at < ?"
+                    + " ORDER BY t.created_at, t.id";
+
+    private static final String LEDGER_ENTRIES =
+            "SELECT id, transaction_id, account_id, entry_type, amount, currency,"
+                    + " balance_after, description, created_at"
+                    + " FROM ledger_entries"
+                    + " WHERE account_id = ? AND created_at >= ? AND created_at < ?"
+                    + " ORDER BY created_at, id";
+
+    private static final List<String> TRANSACTION_HEADER =
+            List.of(
+                    "id",
+                    "type",
+                    "status",
+                    "source_account_id",
+                    "target_account_id",
+                    "amount",
+                    "currency",
+                    "description",
+                    "reference",
+                    "idempotency_key",
+                    "created_at",
+                    "updated_at");
+
+    private static final List<String> LEDGER_HEADER =
+            List.of(
+                    "id",
+                    "transaction_id",
+                    "account_id",
+                    "entry_type",
+                    "amount",
+                    "currency",
+                    "balance_after",
+                    "description",
+                    "created_at");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter jsonWriter;
+    private final AccountTransactionBackfill accountTransactionBackfill;
+    private final MeterRegistry meterRegistry;
+
+    public HistoryExporter(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            AccountTransactionBackfill accountTransactionBackfill,
+            MeterRegistry meterRegistry,
+            @Value("${transaction.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jsonWriter =
+                objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.accountTransactionBackfill = accountTransactionBackfill;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public StreamingResponseBody exportTransactions(
+            Long accountId, Instant from, Instant to, ExportFormat format) {
+        Timestamp lower = lowerBound(from, to);
+        Timestamp upper = Timestamp.from(to != null ? to : OPEN_UPPER_BOUND);
+        boolean linked = accountTransactionBackfill.isComplete();
+        String sql = linked ? LINKED_TRANSACTIONS : MATCHED_TRANSACTIONS;
+        Object[] args =
+                linked
+                        ? new Object[] {accountId, lower, upper}
+                        : new Object[] {accountId, accountId, lower, upper};
+        return out ->
+                stream(
+                        "transactions",
+                        sql,
+                        args,
+                        HistoryExporter::mapTransaction,
+                        recordWriter(
+                                format,
+                                out,
+                                TRANSACTION_HEADER,
+                                HistoryExporter::transactionColumns));
+    }
+
+    public StreamingResponseBody exportLedgerEntries(
+            Long accountId, Instant from, Instant to, ExportFormat format) {
+        Timestamp lower = lowerBound(from, to);
+        Timestamp upper = Timestamp.from(to != null ? to : OPEN_UPPER_BOUND);
+        return out ->
+                stream(
+                        "ledger_entries",
+                        LEDGER_ENTRIES,
+                        new Object[] {accountId, lower, upper},
+                        HistoryExporter::mapLedgerEntry,
+                        recordWriter(format, out, LEDGER_HEADER, HistoryExporter::ledgerColumns));
+    }
+
+    private <T> void stream(
+            String kind, String sql, Object[] args, RowMapper<T> mapper, RecordWriter<T> writer)
+            throws IOException {
+        long[] rows = new long[1];
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status ->
+                            jdbcTemplate.query(
+                                    sql,
+                                    rs -> {
+                                        try {
+                                            writer.write(mapper.mapRow(rs, 0));
+                                        } catch (IOException e) {
+                                            throw new UncheckedIOException(e);
+                                        }
+                                        rows[0]++;
+                                    },
+                                    args));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            meterRegistry.counter("transaction.export.rows", "kind", kind).increment(rows[0]);
+        }
+        writer.finish();
+    }
+
+    private <T> RecordWriter<T> recordWriter(
+            ExportFormat format,
+            OutputStream out,
+            List<String> header,
+            Function<T, List<Object>> columns)
+            throws IOException {
+        if (format == ExportFormat.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeCsvLine(writer, header);
+            return new RecordWriter<>() {
+                @Override
+                public void write(T record) throws IOException {
+                    writeCsvLine(writer, columns.apply(record));
+                }
+
+                @Override
+                public void finish() throws IOException {
+                    writer.flush();
+                }
+            };
+        }
+
+        JsonGenerator generator = jsonWriter.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return new RecordWriter<>() {
+            @Override
+            public void write(T record) throws IOException {
+                jsonWriter.writeValue(generator, record);
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void finish() throws IOException {
+                generator.close();
+            }
+        };
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        String text = value.toString();
+        if (isFormulaLike(text)) {
+            return "\"'" + text.replace("\"", "\"\"") + '"';
+        }
+        if (text.indexOf(',') < 0
+                && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0
+                && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    // Spreadsheets evaluate a cell starting with one of these as a formula, so free-text fields
+    // such as descriptions are neutralised with a leading quote.
+    private static boolean isFormulaLike(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '='
+                || first == '+'
+                || first == '-'
+                || first == '@'
+                || first == '\t'
+                || first == '\r';
+    }
+
+    private static Timestamp lowerBound(Instant from, Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        return Timestamp.from(from != null ? from : Instant.EPOCH);
+    }
+
+    private static TransactionResponse mapTransaction(ResultSet rs, int rowNum)
+            throws SQLException {
+        return TransactionResponse.builder()
+                .id(rs.getString("id"))
+                .type(rs.getString("type"))
+                .status(rs.getString("status"))
+                .sourceAccountId(rs.getObject("source_account_id", Long.class))
+                .targetAccountId(rs.getObject("target_account_id", Long.class))
+                .amount(rs.getBigDecimal("amount"))
+                .currency(rs.getString("currency"))
+                .description(rs.getString("description"))
+                .reference(rs.getString("reference"))
+                .idempotencyKey(rs.getString("idempotency_key"))
+                .createdAt(rs.getTimestamp("created_at").toInstant())
+                .updatedAt(rs.getTimestamp("updated_at").toInstant())
+                .build();
+    }
+
+    private static LedgerEntryResponse mapLedgerEntry(ResultSet rs, int rowNum)
+            throws SQLException {
+        return LedgerEntryResponse.builder()
+                .id(rs.getLong("id"))
+                .transactionId(rs.getString("transaction_id"))
+                .accountId(rs.getLong("account_id"))
+                .entryType(rs.getString("entry_type"))
+                .amount(rs.getBigDecimal("amount"))
+                .currency(rs.getString("currency"))
+                .balanceAfter(rs.getBigDecimal("balance_after"))
+                .description(rs.getString("description"))
+                .createdAt(rs.getTimestamp("created_at").toInstant())
+                .build();
+    }
+
+    private static List<Object> transactionColumns(TransactionResponse transaction) {
+        return Arrays.asList(
+                transaction.getId(),
+                transaction.getType(),
+                transaction.getStatus(),
+                transaction.getSourceAccountId(),
+                transaction.getTargetAccountId(),
+                transaction.getAmount(),
+                transaction.getCurrency(),
+                transaction.getDescription(),
+                transaction.getReference(),
+                transaction.getIdempotencyKey(),
+                transaction.getCreatedAt(),
+                transaction.getUpdatedAt());
+    }
+
+    private static List<Object> ledgerColumns(LedgerEntryResponse entry) {
+        return Arrays.asList(
+                entry.getId(),
+                entry.getTransactionId(),
+                entry.getAccountId(),
+                entry.getEntryType(),
+                entry.getAmount(),
+                entry.getCurrency(),
+                entry.getBalanceAfter(),
+                entry.getDescription(),
+                entry.getCreatedAt());
+    }
+
+    private interface RecordWriter<T> {
+
+        void write(T record) throws IOException;
+
+        void finish() throws IOException;
+    }
+}
@@ -0,0 +1,104 @@
+package com.lorettabank.transaction.service;
+
+import com.lorettabank.transaction.dto.BalanceAtResponse;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LedgerBalanceService {
+
+    private static final String CHECKPOINT_BEFORE_DAY =
+            "SELECT closing_balance, currency, last_entry_at, last_entry_id"
+                    + " FROM ledger_balance_checkpoints"
+                    + " WHERE account_id = ? AND balance_date < CAST(? AS date)"
+                    + " ORDER BY balance_date DESC LIMIT 1";
+
+    private static final String NET_SINCE_CHECKPOINT =
+            "SELECT COALESCE(SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE -amount END), 0)"
+                    + " FROM ledger_entries"
+                    + " WHERE account_id = ? AND created_at >= ? AND created_at < ?"
+                    + " AND (created_at, id) > (?, ?)";
+
+    private static final String LATEST_ENTRY_BEFORE =
+            "SELECT balance_after, currency FROM ledger_entries"
+                    + " WHERE account_id = ? AND created_at < ?"
+                    + " ORDER BY created_at DESC, id DESC LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerCheckpointBackfill checkpointBackfill;
+
+    public LedgerBalanceService(
+            JdbcTemplate jdbcTemplate, LedgerCheckpointBackfill checkpointBackfill) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointBackfill = checkpointBackfill;
+    }
+
+    public BalanceAtResponse getBalanceAt(Long accountId, Instant at) {
+        Timestamp cutoff = Timestamp.from(at);
+        BalanceAtResponse checkpointed =
+                checkpointBackfill.isComplete() ? fromCheckpoint(accountId, at, cutoff) : null;
+        return checkpointed != null ? checkpointed : fromLatestEntry(accountId, at, cutoff);
+    }
+
+    private BalanceAtResponse fromCheckpoint(Long accountId, Instant at, Timestamp cutoff) {
+        List<Checkpoint> checkpoints =
+                jdbcTemplate.query(
+                        CHECKPOINT_BEFORE_DAY,
+                        (rs, rowNum) ->
+                                new Checkpoint(
+                                        rs.getBigDecimal("closing_balance"),
+                                        rs.getString("currency"),
+                                        rs.getTimestamp("last_entry_at"),
+                                        rs.getLong("last_entry_id")),
+                        accountId,
+                        cutoff);
+        if (checkpoints.isEmpty()) {
+            return null;
+        }
+
+        Checkpoint checkpoint = checkpoints.get(0);
+        BigDecimal net =
+                jdbcTemplate.queryForObject(
+                        NET_SINCE_CHECKPOINT,
+                        BigDecimal.class,
+                        accountId,
+                        checkpoint.lastEntryAt(),
+                        cutoff,
+                        checkpoint.lastEntryAt(),
+                        checkpoint.lastEntryId());
+        return balance(accountId, at, checkpoint.closingBalance().add(net), checkpoint.currency());
+    }
+
+    private BalanceAtResponse fromLatestEntry(Long accountId, Instant at, Timestamp cutoff) {
+        List<BalanceAtResponse> latest =
+                jdbcTemplate.query(
+                        LATEST_ENTRY_BEFORE,
+                        (rs, rowNum) ->
+                                balance(
+                                        accountId,
+                                        at,
+                                        rs.getBigDecimal("balance_after"),
+                                        rs.getString("currency")),
+                        accountId,
+                        cutoff);
+        return latest.isEmpty() ? balance(accountId, at, BigDecimal.ZERO, null) : latest.get(0);
+    }
+
+    private static BalanceAtResponse balance(
+            Long accountId, Instant at, BigDecimal balance, String currency) {
+        return BalanceAtResponse.builder()
+                .accountId(accountId)
+                .at(at)
+                .balance(balance.setScale(4, RoundingMode.HALF_UP))
+                .currency(currency)
+                .build();
+    }
+
+    private record Checkpoint(
+            BigDecimal closingBalance, String currency, Timestamp lastEntryAt, long lastEntryId) {}
+}
@@ -0,0 +1,130 @@
+package com.lorettabank.transaction.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class LedgerCheckpointBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerCheckpointBackfill.class);
+
+    private static final String CLAIM_MONTH =
+            "SELECT month FROM ledger_balance_checkpoint_backfill"
+                    + " WHERE completed_at IS NULL ORDER BY month LIMIT 1 FOR UPDATE SKIP LOCKED";
+
+    private static final String CHECKPOINT_MONTH =
+            "INSERT INTO ledger_balance_checkpoints"
+                    + " (account_id, balance_date, currency, closing_balance,"
+                    + " last_entry_at, last_entry_id)"
+                    + " SELECT DISTINCT ON (account_id, created_at::date)"
+                    + " account_id, created_at::date, currency, balance_after, created_at, id"
+                    + " FROM ledger_entries"
+                    + " WHERE created_at >= ? AND created_at < ?"
+                    + " ORDER BY account_id, created_at::date, created_at DESC, id DESC"
+                    + " ON CONFLICT (account_id, balance_date) DO UPDATE"
+                    + " SET currency = EXCLUDED.currency,"
+                    + " closing_balance = EXCLUDED.closing_balance,"
+                    + " last_entry_at = EXCLUDED.last_entry_at,"
+                    + " last_entry_id = EXCLUDED.last_entry_id"
+                    + " WHERE (ledger_balance_checkpoints.last_entry_at,"
+                    + " ledger_balance_checkpoints.last_entry_id)"
+                    + " < (EXCLUDED.last_entry_at, EXCLUDED.last_entry_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+
+    private volatile boolean complete;
+
+    public LedgerCheckpointBackfill(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${transaction.balance-checkpoints.backfill.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = parallelism;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${transaction.balance-checkpoints.backfill.interval-ms:5000}")
+    public void run() {
+        if (complete) {
+            return;
+        }
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < parallelism; i++) {
+                workers.execute(this::drain);
+            }
+        }
+        try {
+            complete = isMarkedComplete();
+            if (complete) {
+                log.info("Ledger balance checkpoint backfill completed");
+            }
+        } catch (Exception e) {
+            log.error("Ledger balance checkpoint backfill check failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void drain() {
+        try {
+            boolean claimed = true;
+            while (claimed) {
+                claimed = checkpointNextMonth();
+            }
+        } catch (Exception e) {
+            log.error("Ledger balance checkpoint backfill failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean checkpointNextMonth() {
+        return Boolean.TRUE.equals(
+                transactionTemplate.execute(
+                        status -> {
+                            List<LocalDate> claimed =
+                                    jdbcTemplate.queryForList(CLAIM_MONTH, LocalDate.class);
+                            if (claimed.isEmpty()) {
+                                return false;
+                            }
+
+                            LocalDate month = claimed.get(0);
+                            int checkpoints =
+                                    jdbcTemplate.update(
+                                            CHECKPOINT_MONTH,
+                                            month.atStartOfDay(),
+                                            month.plusMonths(1).atStartOfDay());
+                            jdbcTemplate.update(
+                                    "UPDATE ledger_balance_checkpoint_backfill"
+                                            + " SET completed_at = LOCALTIMESTAMP WHERE month = ?",
+                                    month);
+                            log.info(
+                                    "Checkpointed ledger balances for {}: {} account-days",
+                                    month,
+                                    checkpoints);
+                            return true;
+                        }));
+    }
+
+    private boolean isMarkedComplete() {
+        return !Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM ledger_balance_checkpoint_backfill"
+                                + " WHERE completed_at IS NULL)",
+                        Boolean.class));
+    }
+}
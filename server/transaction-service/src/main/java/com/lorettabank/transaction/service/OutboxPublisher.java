@@ -1,78 +1,38 @@
 package com.lorettabank.transaction.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.lorettabank.shared.event.DomainEvent;
-import com.lorettabank.shared.event.EventTopics;
-import com.lorettabank.transaction.entity.OutboxEvent;
-import com.lorettabank.transaction.repository.OutboxEventRepository;
-import java.util.List;
+import com.lorettabank.shared.outbox.OutboxRelay;
+import com.lorettabank.shared.outbox.OutboxReplicationStreamer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class OutboxPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxPublisher.class);
 
-    private final OutboxEventRepository outboxEventRepository;
-    private final KafkaTemplate<String, DomainEvent> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxRelay outboxRelay;
+    private final ObjectProvider<OutboxReplicationStreamer> replicationStreamer;
 
     public OutboxPublisher(
-            OutboxEventRepository outboxEventRepository,
-            KafkaTemplate<String, DomainEvent> kafkaTemplate,
-            ObjectMapper objectMapper) {
-        this.outboxEventRepository = outboxEventRepository;
-        this.kafkaTemplate = kafkaTemplate;
-        this.objectMapper = objectMapper;
+            OutboxRelay outboxRelay,
+            ObjectProvider<OutboxReplicationStreamer> replicationStreamer) {
+        this.outboxRelay = outboxRelay;
+        this.replicationStreamer = replicationStreamer;
     }
 
-    @Scheduled(fixedDelay = 1000)
-    @Transactional
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
     public void publishPendingEvents() {
-        List<OutboxEvent> unpublished = outboxEventRepository.findByPublishedFalse();
-        if (unpublished.isEmpty()) {
+        OutboxReplicationStreamer streamer = replicationStreamer.getIfAvailable();
+        if (streamer != null && streamer.isStreaming()) {
             return;
         }
 
-        log.debug("Publishing {} pending outbox events", unpublished.size());
-
-        for (OutboxEvent outboxEvent : unpublished) {
-            try {
-                DomainEvent domainEvent =
-                        objectMapper.readValue(outboxEvent.getPayload(), DomainEvent.class);
-                String topic = resolveTopic(outboxEvent.getEventType());
-
-                kafkaTemplate.send(topic, outboxEvent.getAggregateId(), domainEvent).get();
-
-                outboxEvent.setPublished(true);
-                outboxEventRepository.save(outboxEvent);
-
-                log.debug(
-                        "Published outbox event: id={}, type={}, topic={}",
-                        outboxEvent.getId(),
-                        outboxEvent.getEventType(),
-                        topic);
-            } catch (Exception e) {
-                log.error(
-                        "Error processing outbox event: id={}, error={}",
-                        outboxEvent.getId(),
-                        e.getMessage(),
-                        e);
-            }
+        int published = outboxRelay.drain();
+        if (published > 0) {
+            log.debug("Published {} pending outbox events", published);
         }
     }
-
-    private String resolveTopic(String eventType) {
-        return switch (eventType) {
-            case "MONEY_DEPOSITED", "MONEY_WITHDRAWN" -> EventTopics.TRANSACTION_EVENTS;
-            case "TRANSFER_INITIATED", "TRANSFER_COMPLETED", "TRANSFER_FAILED" ->
-                    EventTopics.TRANSFER_EVENTS;
-            default -> EventTopics.TRANSACTION_EVENTS;
-        };
-    }
 }
@@ -0,0 +1,37 @@
+package com.lorettabank.transaction.service;
+
+import com.lorettabank.shared.outbox.OutboxRetention;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OutboxRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRetentionJob.class);
+
+    private final OutboxRetention outboxRetention;
+
+    public OutboxRetentionJob(OutboxRetention outboxRetention) {
+        this.outboxRetention = outboxRetention;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${outbox.retention.interval-ms:3600000}")
+    public void maintainPartitions() {
+        try {
+            outboxRetention.maintain();
+        } catch (Exception e) {
+            log.error("Outbox partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.retention.stats-interval-ms:30000}")
+    public void refreshStats() {
+        try {
+            outboxRetention.refreshStats();
+        } catch (Exception e) {
+            log.warn("Failed to refresh outbox statistics: {}", e.getMessage());
+        }
+    }
+}
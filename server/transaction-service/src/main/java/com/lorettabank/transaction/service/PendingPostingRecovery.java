@@ -0,0 +1,80 @@
+package com.lorettabank.transaction.service;
+
+import com.lorettabank.transaction.entity.Transaction;
+import com.lorettabank.transaction.entity.TransactionType;
+import com.lorettabank.transaction.repository.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PendingPostingRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingPostingRecovery.class);
+
+    private static final Set<TransactionType> SINGLE_LEG =
+            EnumSet.of(TransactionType.DEPOSIT, TransactionType.WITHDRAWAL);
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionService transactionService;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final Counter settledCounter;
+
+    public PendingPostingRecovery(
+            TransactionRepository transactionRepository,
+            TransactionService transactionService,
+            MeterRegistry meterRegistry,
+            @Value("${transaction.recovery.stale-after-ms:300000}") long staleAfterMs,
+            @Value("${transaction.recovery.batch-size:100}") int batchSize) {
+        this.transactionRepository = transactionRepository;
+        this.transactionService = transactionService;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+        this.batchSize = batchSize;
+        this.settledCounter =
+                Counter.builder("transaction.pending.settled")
+                        .description("Pending deposits and withdrawals settled by recovery")
+                        .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${transaction.recovery.interval-ms:60000}")
+    public void run() {
+        try {
+            settleStale();
+        } catch (Exception e) {
+            log.error("Pending posting recovery failed: {}", e.getMessage(), e);
+        }
+    }
+
+    int settleStale() {
+        List<Transaction> stale =
+                transactionRepository.findStale(
+                        SINGLE_LEG, Instant.now().minus(staleAfter), PageRequest.of(0, batchSize));
+
+        int settled = 0;
+        for (Transaction transaction : stale) {
+            try {
+                if (transactionService.settlePending(transaction)) {
+                    settledCounter.increment();
+                    settled++;
+                }
+            } catch (Exception e) {
+                log.warn(
+                        "Pending posting recovery deferred: transactionId={}, reason={}",
+                        transaction.getId(),
+                        e.getMessage());
+            }
+        }
+        return settled;
+    }
+}
@@ -0,0 +1,76 @@
+package com.lorettabank.transaction.service;
+
+import com.lorettabank.shared.partition.PartitionInterval;
+import com.lorettabank.shared.partition.RangePartition;
+import com.lorettabank.shared.partition.RangePartitionManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TransactionPartitionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionJob.class);
+
+    private static final List<String> PARTITIONED_TABLES =
+            List.of("transactions", "ledger_entries");
+    private static final String ARCHIVE_SUFFIX = "_archive";
+
+    private final RangePartitionManager partitionManager;
+    private final int premakeMonths;
+    private final int archiveAfterMonths;
+
+    public TransactionPartitionJob(
+            RangePartitionManager partitionManager,
+            @Value("${transaction.partitions.premake-months:3}") int premakeMonths,
+            @Value("${transaction.partitions.archive-after-months:84}") int archiveAfterMonths) {
+        this.partitionManager = partitionManager;
+        this.premakeMonths = premakeMonths;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${transaction.partitions.interval-ms:3600000}")
+    public void maintainPartitions() {
+        LocalDate today = LocalDate.now();
+        for (String table : PARTITIONED_TABLES) {
+            try {
+                LocalDate firstMonth = firstManagedMonth(table, today);
+                for (int month = 0; month <= premakeMonths; month++) {
+                    LocalDate date = today.plusMonths(month);
+                    if (!PartitionInterval.MONTH.startOf(date).isBefore(firstMonth)) {
+                        partitionManager.ensurePartition(table, PartitionInterval.MONTH, date);
+                    }
+                }
+                if (archiveAfterMonths > 0) {
+                    archive(table, today.minusMonths(archiveAfterMonths));
+                }
+            } catch (Exception e) {
+                log.error("Partition maintenance failed for {}: {}", table, e.getMessage(), e);
+            }
+        }
+    }
+
+    // Months before the first monthly partition are covered by the legacy partition V7_3 attached,
+    // and creating a monthly partition there would overlap it.
+    private LocalDate firstManagedMonth(String table, LocalDate today) {
+        return partitionManager.partitions(table, PartitionInterval.MONTH).stream()
+                .map(RangePartition::from)
+                .findFirst()
+                .filter(from -> from.isAfter(today))
+                .orElse(PartitionInterval.MONTH.startOf(today));
+    }
+
+    private void archive(String table, LocalDate archiveBefore) {
+        for (RangePartition partition :
+                partitionManager.partitions(table, PartitionInterval.MONTH)) {
+            if (partition.to().isAfter(archiveBefore)) {
+                break;
+            }
+            partitionManager.movePartition(table, table + ARCHIVE_SUFFIX, partition);
+        }
+    }
+}
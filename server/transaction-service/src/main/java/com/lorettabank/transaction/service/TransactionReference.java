@@ -0,0 +1,12 @@
+package com.lorettabank.transaction.service;
+
+import java.util.UUID;
+
+final class TransactionReference {
+
+    private TransactionReference() {}
+
+    static String of(String prefix, UUID id) {
+        return prefix + "-" + String.format("%08X", id.getLeastSignificantBits() & 0xFFFFFFFFL);
+    }
+}
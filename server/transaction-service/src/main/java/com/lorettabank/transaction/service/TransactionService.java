@@ -2,13 +2,16 @@ package com.lorettabank.transaction.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.shared.dto.CursorPage;
 import com.lorettabank.shared.dto.PagedResponse;
 import com.lorettabank.shared.event.MoneyDepositedEvent;
 import com.lorettabank.shared.event.MoneyWithdrawnEvent;
 import com.lorettabank.shared.exception.BusinessException;
 import com.lorettabank.shared.exception.ResourceNotFoundException;
+import com.lorettabank.shared.id.UuidV7;
 import com.lorettabank.transaction.client.AccountClient;
 import com.lorettabank.transaction.dto.AccountBalanceResponse;
+import com.lorettabank.transaction.dto.AccountTransferResponse;
 import com.lorettabank.transaction.dto.DepositRequest;
 import com.lorettabank.transaction.dto.LedgerEntryResponse;
 import com.lorettabank.transaction.dto.TransactionResponse;
@@ -19,14 +22,22 @@ import com.lorettabank.transaction.entity.OutboxEvent;
 import com.lorettabank.transaction.entity.Transaction;
 import com.lorettabank.transaction.entity.TransactionStatus;
 import com.lorettabank.transaction.entity.TransactionType;
+import com.lorettabank.transaction.idempotency.IdempotencyRegistry;
 import com.lorettabank.transaction.mapper.TransactionMapper;
+import com.lorettabank.transaction.repository.AccountTransactionRepository;
 import com.lorettabank.transaction.repository.LedgerEntryRepository;
 import com.lorettabank.transaction.repository.OutboxEventRepository;
 import com.lorettabank.transaction.repository.TransactionRepository;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -41,29 +52,47 @@ public class TransactionService {
 
     private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
 
+    private static final String IDEMPOTENCY_SCOPE = "transaction";
+    private static final int MAX_SCROLL_SIZE = 500;
+    private static final Instant OPEN_UPPER_BOUND = Instant.parse("9999-12-31T00:00:00Z");
+    private static final Duration CREATED_BEFORE_ID = Duration.ofMinutes(1);
+    private static final Duration CREATED_AFTER_ID = Duration.ofHours(1);
+    private static final String POSTING_APPLIED = "APPLIED";
+
     private final TransactionRepository transactionRepository;
+    private final AccountTransactionRepository accountTransactionRepository;
+    private final AccountTransactionBackfill accountTransactionBackfill;
     private final LedgerEntryRepository ledgerEntryRepository;
     private final OutboxEventRepository outboxEventRepository;
     private final AccountClient accountClient;
+    private final IdempotencyRegistry idempotencyRegistry;
     private final TransactionMapper transactionMapper;
     private final ObjectMapper objectMapper;
+    private final GroupCommitLedgerWriter ledgerWriter;
 
     public TransactionService(
             TransactionRepository transactionRepository,
+            AccountTransactionRepository accountTransactionRepository,
+            AccountTransactionBackfill accountTransactionBackfill,
             LedgerEntryRepository ledgerEntryRepository,
             OutboxEventRepository outboxEventRepository,
             AccountClient accountClient,
+            IdempotencyRegistry idempotencyRegistry,
             TransactionMapper transactionMapper,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            GroupCommitLedgerWriter ledgerWriter) {
         this.transactionRepository = transactionRepository;
+        this.accountTransactionRepository = accountTransactionRepository;
+        this.accountTransactionBackfill = accountTransactionBackfill;
         this.ledgerEntryRepository = ledgerEntryRepository;
         this.outboxEventRepository = outboxEventRepository;
         this.accountClient = accountClient;
+        this.idempotencyRegistry = idempotencyRegistry;
         this.transactionMapper = transactionMapper;
         this.objectMapper = objectMapper;
+        this.ledgerWriter = ledgerWriter;
     }
 
-    @Transactional
     public TransactionResponse recordDeposit(DepositRequest request, String idempotencyKey) {
         log.info(
                 "Recording deposit: accountId={}, amount={}, idempotencyKey={}",
@@ -71,55 +100,76 @@ public class TransactionService {
                 request.getAmount(),
                 idempotencyKey);
 
-        Optional<Transaction> existing = transactionRepository.findByIdempotencyKey(idempotencyKey);
-        if (existing.isPresent()) {
-            log.info("Returning existing deposit transaction for idempotencyKey={}", idempotencyKey);
-            Transaction tx = existing.get();
-            List<LedgerEntry> entries = ledgerEntryRepository.findByTransactionId(tx.getId());
-            return transactionMapper.toTransactionResponse(tx, entries);
-        }
+        return idempotencyRegistry.execute(
+                IDEMPOTENCY_SCOPE,
+                idempotencyKey,
+                TransactionResponse.class,
+                () -> findExisting(idempotencyKey),
+                () -> postDeposit(request, idempotencyKey),
+                TransactionService::isSettled);
+    }
 
-        String transactionId = UUID.randomUUID().toString();
-        String reference = "DEP-" + transactionId.substring(0, 8).toUpperCase();
+    private TransactionResponse postDeposit(DepositRequest request, String idempotencyKey) {
+        UUID transactionId = UuidV7.generate();
+        String reference = TransactionReference.of("DEP", transactionId);
 
-        accountClient.credit(request.getAccountId(), request.getAmount(), reference);
+        Optional<Transaction> pending =
+                createPending(
+                        () ->
+                                Transaction.builder()
+                                        .id(transactionId)
+                                        .type(TransactionType.DEPOSIT)
+                                        .status(TransactionStatus.PENDING)
+                                        .targetAccountId(request.getAccountId())
+                                        .amount(request.getAmount())
+                                        .currency(request.getCurrency())
+                                        .description(request.getDescription())
+                                        .reference(reference)
+                                        .idempotencyKey(idempotencyKey)
+                                        .build());
+        if (pending.isEmpty()) {
+            return findExisting(idempotencyKey).orElseThrow();
+        }
+        Transaction transaction = pending.get();
 
-        AccountBalanceResponse account = accountClient.getAccount(request.getAccountId());
+        AccountBalanceResponse account;
+        try {
+            account =
+                    accountClient
+                            .credit(
+                                    transactionId.toString(),
+                                    request.getAccountId(),
+                                    request.getAmount(),
+                                    reference)
+                            .block();
+        } catch (BusinessException e) {
+            markFailed(transaction);
+            throw e;
+        }
         BigDecimal balanceAfter = account.getBalance();
 
-        Transaction transaction =
-                Transaction.builder()
-                        .id(transactionId)
-                        .type(TransactionType.DEPOSIT)
-                        .status(TransactionStatus.COMPLETED)
-                        .targetAccountId(request.getAccountId())
-                        .amount(request.getAmount())
-                        .currency(request.getCurrency())
-                        .description(request.getDescription())
-                        .reference(reference)
-                        .idempotencyKey(idempotencyKey)
-                        .build();
-        transactionRepository.save(transaction);
-
-        LedgerEntry creditEntry =
-                LedgerEntry.builder()
-                        .transactionId(transactionId)
-                        .accountId(request.getAccountId())
-                        .entryType(EntryType.CREDIT)
-                        .amount(request.getAmount())
-                        .currency(request.getCurrency())
-                        .balanceAfter(balanceAfter)
-                        .description(request.getDescription())
-                        .build();
-        ledgerEntryRepository.save(creditEntry);
-
-        saveDepositOutboxEvent(transaction, account, balanceAfter);
+        Optional<LedgerEntry> creditEntry =
+                complete(
+                        transaction,
+                        () ->
+                                LedgerEntry.builder()
+                                        .transactionId(transactionId)
+                                        .accountId(request.getAccountId())
+                                        .entryType(EntryType.CREDIT)
+                                        .amount(request.getAmount())
+                                        .currency(request.getCurrency())
+                                        .balanceAfter(balanceAfter)
+                                        .description(request.getDescription())
+                                        .build(),
+                        () -> saveDepositOutboxEvent(transaction, account, balanceAfter));
+        if (creditEntry.isEmpty()) {
+            return findExisting(idempotencyKey).orElseThrow();
+        }
 
         log.info("Deposit completed: transactionId={}", transactionId);
-        return transactionMapper.toTransactionResponse(transaction, List.of(creditEntry));
+        return transactionMapper.toTransactionResponse(transaction, List.of(creditEntry.get()));
     }
 
-    @Transactional
     public TransactionResponse recordWithdrawal(WithdrawRequest request, String idempotencyKey) {
         log.info(
                 "Recording withdrawal: accountId={}, amount={}, idempotencyKey={}",
@@ -127,76 +177,148 @@ public class TransactionService {
                 request.getAmount(),
                 idempotencyKey);
 
-        Optional<Transaction> existing = transactionRepository.findByIdempotencyKey(idempotencyKey);
-        if (existing.isPresent()) {
-            log.info(
-                    "Returning existing withdrawal transaction for idempotencyKey={}",
-                    idempotencyKey);
-            Transaction tx = existing.get();
-            List<LedgerEntry> entries = ledgerEntryRepository.findByTransactionId(tx.getId());
-            return transactionMapper.toTransactionResponse(tx, entries);
-        }
+        return idempotencyRegistry.execute(
+                IDEMPOTENCY_SCOPE,
+                idempotencyKey,
+                TransactionResponse.class,
+                () -> findExisting(idempotencyKey),
+                () -> postWithdrawal(request, idempotencyKey),
+                TransactionService::isSettled);
+    }
 
-        String transactionId = UUID.randomUUID().toString();
-        String reference = "WDR-" + transactionId.substring(0, 8).toUpperCase();
+    private TransactionResponse postWithdrawal(WithdrawRequest request, String idempotencyKey) {
+        UUID transactionId = UuidV7.generate();
+        String reference = TransactionReference.of("WDR", transactionId);
 
-        accountClient.debit(request.getAccountId(), request.getAmount(), reference);
+        Optional<Transaction> pending =
+                createPending(
+                        () ->
+                                Transaction.builder()
+                                        .id(transactionId)
+                                        .type(TransactionType.WITHDRAWAL)
+                                        .status(TransactionStatus.PENDING)
+                                        .sourceAccountId(request.getAccountId())
+                                        .amount(request.getAmount())
+                                        .currency(request.getCurrency())
+                                        .description(request.getDescription())
+                                        .reference(reference)
+                                        .idempotencyKey(idempotencyKey)
+                                        .build());
+        if (pending.isEmpty()) {
+            return findExisting(idempotencyKey).orElseThrow();
+        }
+        Transaction transaction = pending.get();
 
-        AccountBalanceResponse account = accountClient.getAccount(request.getAccountId());
+        AccountBalanceResponse account;
+        try {
+            account =
+                    accountClient
+                            .debit(
+                                    transactionId.toString(),
+                                    request.getAccountId(),
+                                    request.getAmount(),
+                                    reference)
+                            .block();
+        } catch (BusinessException e) {
+            markFailed(transaction);
+            throw e;
+        }
         BigDecimal balanceAfter = account.getBalance();
 
-        Transaction transaction =
-                Transaction.builder()
-                        .id(transactionId)
-                        .type(TransactionType.WITHDRAWAL)
-                        .status(TransactionStatus.COMPLETED)
-                        .sourceAccountId(request.getAccountId())
-                        .amount(request.getAmount())
-                        .currency(request.getCurrency())
-                        .description(request.getDescription())
-                        .reference(reference)
-                        .idempotencyKey(idempotencyKey)
-                        .build();
-        transactionRepository.save(transaction);
-
-        LedgerEntry debitEntry =
-                LedgerEntry.builder()
-                        .transactionId(transactionId)
-                        .accountId(request.getAccountId())
-                        .entryType(EntryType.DEBIT)
-                        .amount(request.getAmount())
-                        .currency(request.getCurrency())
-                        .balanceAfter(balanceAfter)
-                        .description(request.getDescription())
-                        .build();
-        ledgerEntryRepository.save(debitEntry);
-
-        saveWithdrawalOutboxEvent(transaction, account, balanceAfter);
+        Optional<LedgerEntry> debitEntry =
+                complete(
+                        transaction,
+                        () ->
+                                LedgerEntry.builder()
+                                        .transactionId(transactionId)
+                                        .accountId(request.getAccountId())
+                                        .entryType(EntryType.DEBIT)
+                                        .amount(request.getAmount())
+                                        .currency(request.getCurrency())
+                                        .balanceAfter(balanceAfter)
+                                        .description(request.getDescription())
+                                        .build(),
+                        () -> saveWithdrawalOutboxEvent(transaction, account, balanceAfter));
+        if (debitEntry.isEmpty()) {
+            return findExisting(idempotencyKey).orElseThrow();
+        }
 
         log.info("Withdrawal completed: transactionId={}", transactionId);
-        return transactionMapper.toTransactionResponse(transaction, List.of(debitEntry));
+        return transactionMapper.toTransactionResponse(transaction, List.of(debitEntry.get()));
+    }
+
+    // Settles a deposit or withdrawal whose account-service call failed in transit. Voiding the
+    // posting id either finds the posting applied, or stops a late request from applying it.
+    // Returns false when the request itself settled the row first.
+    public boolean settlePending(Transaction transaction) {
+        AccountTransferResponse posting =
+                accountClient.voidTransfer(transaction.getId().toString()).block();
+        if (!POSTING_APPLIED.equals(posting.getStatus())) {
+            log.info(
+                    "Pending {} was never applied, marking failed: transactionId={}",
+                    transaction.getType(),
+                    transaction.getId());
+            return markFailed(transaction);
+        }
+
+        boolean deposit = transaction.getType() == TransactionType.DEPOSIT;
+        Long accountId =
+                deposit ? transaction.getTargetAccountId() : transaction.getSourceAccountId();
+        BigDecimal balanceAfter =
+                deposit ? posting.getTargetBalanceAfter() : posting.getSourceBalanceAfter();
+        AccountBalanceResponse account = accountClient.getAccount(accountId).block();
+        log.info(
+                "Pending {} was applied, completing: transactionId={}",
+                transaction.getType(),
+                transaction.getId());
+        return complete(
+                        transaction,
+                        () ->
+                                LedgerEntry.builder()
+                                        .transactionId(transaction.getId())
+                                        .accountId(accountId)
+                                        .entryType(deposit ? EntryType.CREDIT : EntryType.DEBIT)
+                                        .amount(transaction.getAmount())
+                                        .currency(transaction.getCurrency())
+                                        .balanceAfter(balanceAfter)
+                                        .description(transaction.getDescription())
+                                        .build(),
+                        () -> {
+                            if (deposit) {
+                                saveDepositOutboxEvent(transaction, account, balanceAfter);
+                            } else {
+                                saveWithdrawalOutboxEvent(transaction, account, balanceAfter);
+                            }
+                        })
+                .isPresent();
     }
 
     @Transactional(readOnly = true)
     public TransactionResponse getTransaction(String transactionId) {
         Transaction transaction =
-                transactionRepository
-                        .findById(transactionId)
+                findTransaction(parseTransactionId(transactionId))
                         .orElseThrow(
                                 () ->
                                         new ResourceNotFoundException(
                                                 "Transaction not found: " + transactionId));
-        List<LedgerEntry> entries = ledgerEntryRepository.findByTransactionId(transactionId);
-        return transactionMapper.toTransactionResponse(transaction, entries);
+        return transactionMapper.toTransactionResponse(transaction, ledgerEntriesFor(transaction));
     }
 
     @Transactional(readOnly = true)
     public PagedResponse<TransactionResponse> getTransactionsForAccount(
             Long accountId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Transaction> transactionPage =
-                transactionRepository.findBySourceAccountIdOrTargetAccountId(
-                        accountId, accountId, pageable);
+        Page<Transaction> transactionPage;
+        if (accountTransactionBackfill.isComplete()) {
+            transactionPage =
+                    accountTransactionRepository.findTransactionPage(
+                            accountId, PageRequest.of(page, size));
+        } else {
+            Pageable pageable =
+                    PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+            transactionPage =
+                    transactionRepository.findBySourceAccountIdOrTargetAccountId(
+                            accountId, accountId, pageable);
+        }
         List<TransactionResponse> content =
                 transactionPage.getContent().stream()
                         .map(transactionMapper::toTransactionResponse)
@@ -231,6 +353,195 @@ public class TransactionService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> scrollTransactionsForAccount(
+            Long accountId, String cursor, Instant from, Instant to, int size) {
+        int limit = scrollSize(size);
+        Pageable window = PageRequest.ofSize(limit + 1);
+        Instant lowerBound = lowerBound(from, to);
+        HistoryCursor position = startPosition(cursor, to);
+
+        List<Transaction> rows;
+        if (accountTransactionBackfill.isComplete()) {
+            rows =
+                    accountTransactionRepository.findTransactionsBefore(
+                            accountId, lowerBound, position.createdAt(), position.uuidId(), window);
+        } else {
+            List<Transaction> candidates = new ArrayList<>();
+            candidates.addAll(
+                    transactionRepository.findBySourceAccountIdBefore(
+                            accountId,
+                            lowerBound,
+                            position.createdAt(),
+                            position.uuidId(),
+                            window));
+            candidates.addAll(
+                    transactionRepository.findByTargetAccountIdBefore(
+                            accountId,
+                            lowerBound,
+                            position.createdAt(),
+                            position.uuidId(),
+                            window));
+            rows =
+                    candidates.stream()
+                            .distinct()
+                            .sorted(
+                                    Comparator.comparing(Transaction::getCreatedAt)
+                                            .thenComparing(
+                                                    transaction -> transaction.getId().toString())
+                                            .reversed())
+                            .limit(limit + 1L)
+                            .toList();
+        }
+        return toCursorPage(
+                rows,
+                limit,
+                transactionMapper::toTransactionResponse,
+                transaction ->
+                        new HistoryCursor(
+                                transaction.getCreatedAt(), transaction.getId().toString()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<LedgerEntryResponse> scrollLedgerEntriesForAccount(
+            Long accountId, String cursor, Instant from, Instant to, int size) {
+        int limit = scrollSize(size);
+        HistoryCursor position = startPosition(cursor, to);
+        List<LedgerEntry> rows =
+                ledgerEntryRepository.findByAccountIdBefore(
+                        accountId,
+                        lowerBound(from, to),
+                        position.createdAt(),
+                        position.longId(),
+                        PageRequest.ofSize(limit + 1));
+        return toCursorPage(
+                rows,
+                limit,
+                transactionMapper::toLedgerEntryResponse,
+                entry -> new HistoryCursor(entry.getCreatedAt(), String.valueOf(entry.getId())));
+    }
+
+    private static HistoryCursor startPosition(String cursor, Instant to) {
+        if (cursor != null && !cursor.isBlank()) {
+            return HistoryCursor.decode(cursor);
+        }
+        return HistoryCursor.before(to != null ? to : OPEN_UPPER_BOUND);
+    }
+
+    private static Instant lowerBound(Instant from, Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        return from != null ? from : Instant.EPOCH;
+    }
+
+    private List<LedgerEntry> ledgerEntriesFor(Transaction transaction) {
+        return ledgerEntryRepository.findByTransactionIdAndCreatedAtGreaterThanEqual(
+                transaction.getId(), transaction.getCreatedAt());
+    }
+
+    // A version 7 id carries the time it was generated, just before the row was inserted, so
+    // the lookup can be pruned to the partitions around it. Older random ids probe them all.
+    private Optional<Transaction> findTransaction(UUID id) {
+        if (id.version() != 7) {
+            return transactionRepository.findById(id);
+        }
+        Instant generated = Instant.ofEpochMilli(UuidV7.timestampMillis(id));
+        return transactionRepository
+                .findByIdAndCreatedAtBetween(
+                        id, generated.minus(CREATED_BEFORE_ID), generated.plus(CREATED_AFTER_ID))
+                .or(() -> transactionRepository.findById(id));
+    }
+
+    private static UUID parseTransactionId(String transactionId) {
+        try {
+            return UUID.fromString(transactionId);
+        } catch (IllegalArgumentException e) {
+            throw new ResourceNotFoundException("Transaction not found: " + transactionId);
+        }
+    }
+
+    private static int scrollSize(int size) {
+        return Math.clamp(size, 1, MAX_SCROLL_SIZE);
+    }
+
+    private static <T, R> CursorPage<R> toCursorPage(
+            List<T> rows, int limit, Function<T, R> mapper, Function<T, HistoryCursor> position) {
+        boolean last = rows.size() <= limit;
+        List<T> page = last ? rows : rows.subList(0, limit);
+        return CursorPage.<R>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(page.size())
+                .nextCursor(
+                        last || page.isEmpty()
+                                ? null
+                                : position.apply(page.get(page.size() - 1)).encode())
+                .last(last)
+                .build();
+    }
+
+    // A transport error or timeout from account-service leaves the posting PENDING, and retries
+    // with the same key keep returning it until PendingPostingRecovery settles it by posting id.
+    private static boolean isSettled(TransactionResponse response) {
+        return !TransactionStatus.PENDING.name().equals(response.getStatus());
+    }
+
+    private Optional<TransactionResponse> findExisting(String idempotencyKey) {
+        return transactionRepository
+                .findByIdempotencyKey(idempotencyKey)
+                .map(tx -> transactionMapper.toTransactionResponse(tx, ledgerEntriesFor(tx)));
+    }
+
+    private Optional<Transaction> createPending(Supplier<Transaction> pending) {
+        return ledgerWriter.write(
+                () -> {
+                    Transaction transaction = pending.get();
+                    if (transactionRepository.claimIdempotencyKey(
+                                    transaction.getIdempotencyKey(), transaction.getId())
+                            == 0) {
+                        log.info(
+                                "Concurrent posting won the idempotencyKey={}",
+                                transaction.getIdempotencyKey());
+                        return Optional.empty();
+                    }
+                    return Optional.of(transactionRepository.save(transaction));
+                });
+    }
+
+    // The request and PendingPostingRecovery can both try to settle a posting, so only the
+    // first one to move it out of PENDING writes the outcome
+    private boolean markFailed(Transaction transaction) {
+        boolean settled =
+                ledgerWriter.write(() -> settle(transaction, TransactionStatus.FAILED) > 0);
+        if (settled) {
+            transaction.setStatus(TransactionStatus.FAILED);
+        }
+        return settled;
+    }
+
+    private Optional<LedgerEntry> complete(
+            Transaction transaction, Supplier<LedgerEntry> entry, Runnable outboxWriter) {
+        Optional<LedgerEntry> saved =
+                ledgerWriter.write(
+                        () -> {
+                            if (settle(transaction, TransactionStatus.COMPLETED) == 0) {
+                                return Optional.empty();
+                            }
+                            LedgerEntry created = ledgerEntryRepository.save(entry.get());
+                            outboxWriter.run();
+                            return Optional.of(created);
+                        });
+        if (saved.isPresent()) {
+            transaction.setStatus(TransactionStatus.COMPLETED);
+        }
+        return saved;
+    }
+
+    private int settle(Transaction transaction, TransactionStatus status) {
+        return transactionRepository.settlePending(
+                transaction.getId(), transaction.getCreatedAt(), status, Instant.now());
+    }
+
     private void saveDepositOutboxEvent(
             Transaction transaction, AccountBalanceResponse account, BigDecimal balanceAfter) {
         MoneyDepositedEvent event =
@@ -245,7 +556,7 @@ public class TransactionService {
                         .reference(transaction.getReference())
                         .build();
         event.initDefaults();
-        saveOutboxEvent("Transaction", transaction.getId(), "MONEY_DEPOSITED", event);
+        saveOutboxEvent("Transaction", transaction.getId().toString(), "MONEY_DEPOSITED", event);
     }
 
     private void saveWithdrawalOutboxEvent(
@@ -262,7 +573,7 @@ public class TransactionService {
                         .reference(transaction.getReference())
                         .build();
         event.initDefaults();
-        saveOutboxEvent("Transaction", transaction.getId(), "MONEY_WITHDRAWN", event);
+        saveOutboxEvent("Transaction", transaction.getId().toString(), "MONEY_WITHDRAWN", event);
     }
 
     private void saveOutboxEvent(
@@ -0,0 +1,124 @@
+package com.lorettabank.transaction.service;
+
+import com.lorettabank.shared.exception.ServiceUnavailableException;
+import com.lorettabank.transaction.entity.TransferSaga;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransferSagaExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferSagaExecutor.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final TransferSagaOrchestrator sagaOrchestrator;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+    private final Counter rejectedCounter;
+    private final Timer sagaTimer;
+
+    public TransferSagaExecutor(
+            TransferSagaOrchestrator sagaOrchestrator,
+            MeterRegistry meterRegistry,
+            @Value("${transfer.async.max-in-flight:256}") int maxInFlight) {
+        this.sagaOrchestrator = sagaOrchestrator;
+        this.executor =
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("transfer-saga-", 0).factory());
+        this.permits = new Semaphore(maxInFlight);
+
+        Gauge.builder("transfer.saga.in-flight", permits, p -> maxInFlight - p.availablePermits())
+                .description("Asynchronous transfer sagas currently executing")
+                .register(meterRegistry);
+        this.rejectedCounter =
+                Counter.builder("transfer.saga.rejected")
+                        .description(
+                                "Asynchronous transfers rejected because the executor was full")
+                        .register(meterRegistry);
+        this.sagaTimer =
+                Timer.builder("transfer.saga.duration")
+                        .description("Time to run an asynchronous transfer saga")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+    }
+
+    public TransferSaga submit(Supplier<TransferSaga> persist) {
+        if (!permits.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(
+                    "Too many transfers in progress, please retry shortly");
+        }
+
+        TransferSaga saga;
+        try {
+            saga = persist.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        running.add(saga.getId());
+        try {
+            executor.execute(
+                    () -> {
+                        if (context != null) {
+                            MDC.setContextMap(context);
+                        }
+                        try {
+                            sagaTimer.record(() -> sagaOrchestrator.execute(saga));
+                        } catch (Exception e) {
+                            log.error(
+                                    "Transfer saga interrupted, leaving it for recovery: sagaId={},"
+                                            + " reason={}",
+                                    saga.getId(),
+                                    e.getMessage(),
+                                    e);
+                        } finally {
+                            running.remove(saga.getId());
+                            permits.release();
+                            MDC.clear();
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            running.remove(saga.getId());
+            permits.release();
+            log.warn("Transfer executor is shut down, failing saga {}", saga.getId());
+            sagaOrchestrator.abort(saga, "Transfer service is shutting down");
+        }
+        return saga;
+    }
+
+    public boolean isRunning(UUID sagaId) {
+        return running.contains(sagaId);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn(
+                    "Transfer sagas still running after shutdown timeout, recovery will resume them");
+        }
+    }
+}
@@ -6,8 +6,11 @@ import com.lorettabank.shared.event.TransferCompletedEvent;
 import com.lorettabank.shared.event.TransferFailedEvent;
 import com.lorettabank.shared.event.TransferInitiatedEvent;
 import com.lorettabank.shared.exception.BusinessException;
+import com.lorettabank.shared.exception.DuplicateResourceException;
+import com.lorettabank.shared.id.UuidV7;
 import com.lorettabank.transaction.client.AccountClient;
 import com.lorettabank.transaction.dto.AccountBalanceResponse;
+import com.lorettabank.transaction.dto.AccountTransferResponse;
 import com.lorettabank.transaction.entity.EntryType;
 import com.lorettabank.transaction.entity.LedgerEntry;
 import com.lorettabank.transaction.entity.OutboxEvent;
@@ -24,20 +27,26 @@ import java.math.BigDecimal;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class TransferSagaOrchestrator {
 
     private static final Logger log = LoggerFactory.getLogger(TransferSagaOrchestrator.class);
 
+    private static final String TRANSFER_APPLIED = "APPLIED";
+
     private final TransferSagaRepository transferSagaRepository;
     private final TransactionRepository transactionRepository;
     private final LedgerEntryRepository ledgerEntryRepository;
     private final OutboxEventRepository outboxEventRepository;
     private final AccountClient accountClient;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean fastPathEnabled;
 
     public TransferSagaOrchestrator(
             TransferSagaRepository transferSagaRepository,
@@ -45,13 +54,17 @@ public class TransferSagaOrchestrator {
             LedgerEntryRepository ledgerEntryRepository,
             OutboxEventRepository outboxEventRepository,
             AccountClient accountClient,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${transfer.fast-path.enabled:true}") boolean fastPathEnabled) {
         this.transferSagaRepository = transferSagaRepository;
         this.transactionRepository = transactionRepository;
         this.ledgerEntryRepository = ledgerEntryRepository;
         this.outboxEventRepository = outboxEventRepository;
         this.accountClient = accountClient;
         this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fastPathEnabled = fastPathEnabled;
     }
 
     public void execute(TransferSaga saga) {
@@ -64,10 +77,15 @@ public class TransferSagaOrchestrator {
 
         saveInitiatedEvent(saga);
 
-        String reference = "TRF-" + saga.getId().substring(0, 8).toUpperCase();
+        String reference = TransactionReference.of("TRF", saga.getId());
+
+        if (fastPathEnabled && tryFastPath(saga, reference)) {
+            return;
+        }
 
+        AccountBalanceResponse debited;
         try {
-            stepDebitSource(saga, reference);
+            debited = stepDebitSource(saga, reference);
         } catch (Exception e) {
             log.error(
                     "Transfer saga failed at debit step: sagaId={}, reason={}",
@@ -77,8 +95,9 @@ public class TransferSagaOrchestrator {
             return;
         }
 
+        AccountBalanceResponse credited;
         try {
-            stepCreditTarget(saga, reference);
+            credited = stepCreditTarget(saga, reference);
         } catch (Exception e) {
             log.error(
                     "Transfer saga failed at credit step, compensating: sagaId={}, reason={}",
@@ -88,24 +107,122 @@ public class TransferSagaOrchestrator {
             return;
         }
 
-        completeSaga(saga, reference);
+        completeSaga(saga, reference, debited.getBalance(), credited.getBalance());
+    }
+
+    public void resume(TransferSaga saga) {
+        if (!fastPathEnabled || saga.getStatus() != SagaStatus.INITIATED) {
+            log.error(
+                    "CRITICAL: Transfer saga interrupted in state {}, manual intervention"
+                            + " required: sagaId={}",
+                    saga.getStatus(),
+                    saga.getId());
+            failSaga(saga, "Transfer outcome unknown: interrupted in state " + saga.getStatus());
+            return;
+        }
+
+        log.info("Resuming transfer saga through the atomic transfer: sagaId={}", saga.getId());
+        String reference = TransactionReference.of("TRF", saga.getId());
+        AccountTransferResponse result;
+        try {
+            result =
+                    accountClient
+                            .transfer(
+                                    saga.getId().toString(),
+                                    saga.getSourceAccountId(),
+                                    saga.getTargetAccountId(),
+                                    saga.getAmount(),
+                                    reference)
+                            .block();
+        } catch (DuplicateResourceException e) {
+            log.error(
+                    "CRITICAL: Transfer voided before the saga was interrupted, manual"
+                            + " intervention required: sagaId={}",
+                    saga.getId());
+            failSaga(saga, "Transfer outcome unknown: " + e.getMessage());
+            return;
+        } catch (BusinessException e) {
+            log.error(
+                    "Transfer rejected by account service: sagaId={}, reason={}",
+                    saga.getId(),
+                    e.getMessage());
+            failSaga(saga, e.getMessage());
+            return;
+        }
+
+        completeSaga(
+                saga, reference, result.getSourceBalanceAfter(), result.getTargetBalanceAfter());
+    }
+
+    public void abort(TransferSaga saga, String reason) {
+        failSaga(saga, reason);
     }
 
-    private void stepDebitSource(TransferSaga saga, String reference) {
+    private boolean tryFastPath(TransferSaga saga, String reference) {
+        AccountTransferResponse result;
+        try {
+            result =
+                    accountClient
+                            .transfer(
+                                    saga.getId().toString(),
+                                    saga.getSourceAccountId(),
+                                    saga.getTargetAccountId(),
+                                    saga.getAmount(),
+                                    reference)
+                            .block();
+        } catch (BusinessException e) {
+            log.error(
+                    "Transfer rejected by account service: sagaId={}, reason={}",
+                    saga.getId(),
+                    e.getMessage());
+            failSaga(saga, e.getMessage());
+            return true;
+        } catch (Exception e) {
+            log.warn(
+                    "Atomic transfer unavailable, voiding before saga fallback: sagaId={}, reason={}",
+                    saga.getId(),
+                    e.getMessage());
+            try {
+                result = accountClient.voidTransfer(saga.getId().toString()).block();
+            } catch (Exception voidError) {
+                log.error(
+                        "CRITICAL: Transfer outcome unknown for sagaId={}, manual intervention"
+                                + " required: {}",
+                        saga.getId(),
+                        voidError.getMessage());
+                failSaga(saga, "Transfer outcome unknown: " + e.getMessage());
+                return true;
+            }
+            if (!TRANSFER_APPLIED.equals(result.getStatus())) {
+                return false;
+            }
+        }
+
+        completeSaga(
+                saga, reference, result.getSourceBalanceAfter(), result.getTargetBalanceAfter());
+        return true;
+    }
+
+    private AccountBalanceResponse stepDebitSource(TransferSaga saga, String reference) {
         log.debug("Saga step: debit source accountId={}", saga.getSourceAccountId());
-        accountClient.debit(saga.getSourceAccountId(), saga.getAmount(), reference);
+        AccountBalanceResponse debited =
+                accountClient.debit(saga.getSourceAccountId(), saga.getAmount(), reference).block();
         saga.setStatus(SagaStatus.DEBITED);
         transferSagaRepository.save(saga);
         log.debug("Saga step completed: source debited, sagaId={}", saga.getId());
+        return debited;
     }
 
-    private void stepCreditTarget(TransferSaga saga, String reference) {
+    private AccountBalanceResponse stepCreditTarget(TransferSaga saga, String reference) {
         log.debug("Saga step: credit target accountId={}", saga.getTargetAccountId());
-        accountClient.credit(saga.getTargetAccountId(), saga.getAmount(), reference);
+        AccountBalanceResponse credited =
+                accountClient
+                        .credit(saga.getTargetAccountId(), saga.getAmount(), reference)
+                        .block();
         log.debug("Saga step completed: target credited, sagaId={}", saga.getId());
+        return credited;
     }
 
-    @Transactional
     private void compensate(TransferSaga saga, String reference, String reason) {
         log.warn(
                 "Compensating transfer saga: sagaId={}, reason={}",
@@ -117,7 +234,9 @@ public class TransferSagaOrchestrator {
 
         try {
             String compensationRef = "COMP-" + reference;
-            accountClient.credit(saga.getSourceAccountId(), saga.getAmount(), compensationRef);
+            accountClient
+                    .credit(saga.getSourceAccountId(), saga.getAmount(), compensationRef)
+                    .block();
             saga.setStatus(SagaStatus.COMPENSATED);
             log.info("Compensation successful: sagaId={}", saga.getId());
         } catch (Exception compensationError) {
@@ -129,26 +248,50 @@ public class TransferSagaOrchestrator {
         }
 
         saga.setFailureReason(reason);
-        transferSagaRepository.save(saga);
-
-        saveFailedEvent(saga, reason);
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    transferSagaRepository.save(saga);
+                    saveFailedEvent(saga, reason);
+                });
     }
 
-    @Transactional
     private void failSaga(TransferSaga saga, String reason) {
         saga.setStatus(SagaStatus.FAILED);
         saga.setFailureReason(reason);
-        transferSagaRepository.save(saga);
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    transferSagaRepository.save(saga);
+                    saveFailedEvent(saga, reason);
+                });
+    }
 
-        saveFailedEvent(saga, reason);
+    private void completeSaga(
+            TransferSaga saga,
+            String reference,
+            BigDecimal sourceBalanceAfter,
+            BigDecimal targetBalanceAfter) {
+        UUID transactionId =
+                transactionTemplate.execute(
+                        status ->
+                                recordCompletion(
+                                        saga, reference, sourceBalanceAfter, targetBalanceAfter));
+        log.info(
+                "Transfer saga completed: sagaId={}, transactionId={}",
+                saga.getId(),
+                transactionId);
     }
 
-    @Transactional
-    private void completeSaga(TransferSaga saga, String reference) {
+    // The saga status, the transaction, both ledger entries and the completion event commit
+    // together, so the inserts share one JDBC batch and no partial completion is ever visible.
+    private UUID recordCompletion(
+            TransferSaga saga,
+            String reference,
+            BigDecimal sourceBalanceAfter,
+            BigDecimal targetBalanceAfter) {
         saga.setStatus(SagaStatus.COMPLETED);
         transferSagaRepository.save(saga);
 
-        String transactionId = UUID.randomUUID().toString();
+        UUID transactionId = UuidV7.generate();
 
         Transaction transaction =
                 Transaction.builder()
@@ -165,14 +308,6 @@ public class TransferSagaOrchestrator {
                         .build();
         transactionRepository.save(transaction);
 
-        AccountBalanceResponse sourceAccount =
-                accountClient.getAccount(saga.getSourceAccountId());
-        BigDecimal sourceBalanceAfter = sourceAccount.getBalance();
-
-        AccountBalanceResponse targetAccount =
-                accountClient.getAccount(saga.getTargetAccountId());
-        BigDecimal targetBalanceAfter = targetAccount.getBalance();
-
         LedgerEntry debitEntry =
                 LedgerEntry.builder()
                         .transactionId(transactionId)
@@ -198,19 +333,16 @@ public class TransferSagaOrchestrator {
         ledgerEntryRepository.save(creditEntry);
 
         saveCompletedEvent(saga);
-
-        log.info(
-                "Transfer saga completed: sagaId={}, transactionId={}",
-                saga.getId(),
-                transactionId);
+        return transactionId;
     }
 
     private void saveInitiatedEvent(TransferSaga saga) {
+        String transferId = saga.getId().toString();
         TransferInitiatedEvent event =
                 TransferInitiatedEvent.builder()
                         .eventType("TRANSFER_INITIATED")
-                        .aggregateId(saga.getId())
-                        .transferId(saga.getId())
+                        .aggregateId(transferId)
+                        .transferId(transferId)
                         .idempotencyKey(saga.getIdempotencyKey())
                         .sourceAccountId(saga.getSourceAccountId())
                         .targetAccountId(saga.getTargetAccountId())
@@ -219,30 +351,32 @@ public class TransferSagaOrchestrator {
                         .description(saga.getDescription())
                         .build();
         event.initDefaults();
-        saveOutboxEvent("Transfer", saga.getId(), "TRANSFER_INITIATED", event);
+        saveOutboxEvent("Transfer", transferId, "TRANSFER_INITIATED", event);
     }
 
     private void saveCompletedEvent(TransferSaga saga) {
+        String transferId = saga.getId().toString();
         TransferCompletedEvent event =
                 TransferCompletedEvent.builder()
                         .eventType("TRANSFER_COMPLETED")
-                        .aggregateId(saga.getId())
-                        .transferId(saga.getId())
+                        .aggregateId(transferId)
+                        .transferId(transferId)
                         .sourceAccountId(saga.getSourceAccountId())
                         .targetAccountId(saga.getTargetAccountId())
                         .amount(saga.getAmount())
                         .currency(saga.getCurrency())
                         .build();
         event.initDefaults();
-        saveOutboxEvent("Transfer", saga.getId(), "TRANSFER_COMPLETED", event);
+        saveOutboxEvent("Transfer", transferId, "TRANSFER_COMPLETED", event);
     }
 
     private void saveFailedEvent(TransferSaga saga, String reason) {
+        String transferId = saga.getId().toString();
         TransferFailedEvent event =
                 TransferFailedEvent.builder()
                         .eventType("TRANSFER_FAILED")
-                        .aggregateId(saga.getId())
-                        .transferId(saga.getId())
+                        .aggregateId(transferId)
+                        .transferId(transferId)
                         .sourceAccountId(saga.getSourceAccountId())
                         .targetAccountId(saga.getTargetAccountId())
                         .amount(saga.getAmount())
@@ -250,7 +384,7 @@ public class TransferSagaOrchestrator {
                         .reason(reason)
                         .build();
         event.initDefaults();
-        saveOutboxEvent("Transfer", saga.getId(), "TRANSFER_FAILED", event);
+        saveOutboxEvent("Transfer", transferId, "TRANSFER_FAILED", event);
     }
 
     private void saveOutboxEvent(
@@ -0,0 +1,89 @@
+package com.lorettabank.transaction.service;
+
+import com.lorettabank.transaction.entity.SagaStatus;
+import com.lorettabank.transaction.entity.TransferSaga;
+import com.lorettabank.transaction.repository.TransferSagaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TransferSagaRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferSagaRecovery.class);
+
+    private static final Set<SagaStatus> UNSETTLED =
+            EnumSet.of(SagaStatus.INITIATED, SagaStatus.DEBITED, SagaStatus.COMPENSATING);
+
+    private final TransferSagaRepository transferSagaRepository;
+    private final TransferSagaOrchestrator sagaOrchestrator;
+    private final TransferSagaExecutor sagaExecutor;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final Counter recoveredCounter;
+
+    public TransferSagaRecovery(
+            TransferSagaRepository transferSagaRepository,
+            TransferSagaOrchestrator sagaOrchestrator,
+            TransferSagaExecutor sagaExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${transfer.recovery.stale-after-ms:60000}") long staleAfterMs,
+            @Value("${transfer.recovery.batch-size:100}") int batchSize) {
+        this.transferSagaRepository = transferSagaRepository;
+        this.sagaOrchestrator = sagaOrchestrator;
+        this.sagaExecutor = sagaExecutor;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+        this.batchSize = batchSize;
+        this.recoveredCounter =
+                Counter.builder("transfer.saga.recovered")
+                        .description("Unsettled transfer sagas resumed by recovery")
+                        .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${transfer.recovery.interval-ms:30000}")
+    public void run() {
+        try {
+            recoverStale();
+        } catch (Exception e) {
+            log.error("Transfer saga recovery failed: {}", e.getMessage(), e);
+        }
+    }
+
+    int recoverStale() {
+        Instant now = Instant.now();
+        List<TransferSaga> stale =
+                transferSagaRepository.findStale(
+                        UNSETTLED, now.minus(staleAfter), PageRequest.of(0, batchSize));
+
+        int recovered = 0;
+        for (TransferSaga saga : stale) {
+            if (sagaExecutor.isRunning(saga.getId())
+                    || transferSagaRepository.claimStale(
+                                    saga.getId(), saga.getStatus(), saga.getUpdatedAt(), now)
+                            == 0) {
+                continue;
+            }
+            try {
+                sagaOrchestrator.resume(saga);
+                recoveredCounter.increment();
+                recovered++;
+            } catch (Exception e) {
+                log.warn(
+                        "Transfer saga recovery deferred: sagaId={}, reason={}",
+                        saga.getId(),
+                        e.getMessage());
+            }
+        }
+        return recovered;
+    }
+}
@@ -2,12 +2,16 @@ package com.lorettabank.transaction.service;
 
 import com.lorettabank.shared.exception.BusinessException;
 import com.lorettabank.shared.exception.ResourceNotFoundException;
+import com.lorettabank.shared.id.UuidV7;
 import com.lorettabank.transaction.dto.TransferRequest;
 import com.lorettabank.transaction.dto.TransferResponse;
+import com.lorettabank.transaction.entity.SagaStatus;
 import com.lorettabank.transaction.entity.TransferSaga;
+import com.lorettabank.transaction.idempotency.IdempotencyRegistry;
 import com.lorettabank.transaction.mapper.TransactionMapper;
 import com.lorettabank.transaction.repository.TransferSagaRepository;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,16 +23,29 @@ public class TransferService {
 
     private static final Logger log = LoggerFactory.getLogger(TransferService.class);
 
+    private static final String IDEMPOTENCY_SCOPE = "transfer";
+    private static final Set<String> SETTLED_STATUSES =
+            Set.of(
+                    SagaStatus.COMPLETED.name(),
+                    SagaStatus.FAILED.name(),
+                    SagaStatus.COMPENSATED.name());
+
     private final TransferSagaRepository transferSagaRepository;
     private final TransferSagaOrchestrator sagaOrchestrator;
+    private final TransferSagaExecutor sagaExecutor;
+    private final IdempotencyRegistry idempotencyRegistry;
     private final TransactionMapper transactionMapper;
 
     public TransferService(
             TransferSagaRepository transferSagaRepository,
             TransferSagaOrchestrator sagaOrchestrator,
+            TransferSagaExecutor sagaExecutor,
+            IdempotencyRegistry idempotencyRegistry,
             TransactionMapper transactionMapper) {
         this.transferSagaRepository = transferSagaRepository;
         this.sagaOrchestrator = sagaOrchestrator;
+        this.sagaExecutor = sagaExecutor;
+        this.idempotencyRegistry = idempotencyRegistry;
         this.transactionMapper = transactionMapper;
     }
 
@@ -40,27 +57,19 @@ public class TransferService {
                 request.getAmount(),
                 idempotencyKey);
 
-        if (request.getSourceAccountId().equals(request.getTargetAccountId())) {
-            throw new BusinessException("Source and target accounts must be different");
-        }
+        validateTransfer(request);
 
-        Optional<TransferSaga> existing =
-                transferSagaRepository.findByIdempotencyKey(idempotencyKey);
-        if (existing.isPresent()) {
-            log.info("Returning existing transfer saga for idempotencyKey={}", idempotencyKey);
-            return transactionMapper.toTransferResponse(existing.get());
-        }
+        return idempotencyRegistry.execute(
+                IDEMPOTENCY_SCOPE,
+                idempotencyKey,
+                TransferResponse.class,
+                () -> findExisting(idempotencyKey),
+                () -> runTransfer(request, idempotencyKey),
+                TransferService::isSettled);
+    }
 
-        TransferSaga saga =
-                TransferSaga.builder()
-                        .id(UUID.randomUUID().toString())
-                        .idempotencyKey(idempotencyKey)
-                        .sourceAccountId(request.getSourceAccountId())
-                        .targetAccountId(request.getTargetAccountId())
-                        .amount(request.getAmount())
-                        .currency(request.getCurrency())
-                        .description(request.getDescription())
-                        .build();
+    private TransferResponse runTransfer(TransferRequest request, String idempotencyKey) {
+        TransferSaga saga = buildSaga(request, idempotencyKey);
         transferSagaRepository.save(saga);
 
         sagaOrchestrator.execute(saga);
@@ -72,15 +81,77 @@ public class TransferService {
         return transactionMapper.toTransferResponse(updatedSaga);
     }
 
+    public TransferResponse submitTransfer(TransferRequest request, String idempotencyKey) {
+        log.info(
+                "Accepting async transfer: source={}, target={}, amount={}, idempotencyKey={}",
+                request.getSourceAccountId(),
+                request.getTargetAccountId(),
+                request.getAmount(),
+                idempotencyKey);
+
+        validateTransfer(request);
+
+        return idempotencyRegistry.execute(
+                IDEMPOTENCY_SCOPE,
+                idempotencyKey,
+                TransferResponse.class,
+                () -> findExisting(idempotencyKey),
+                () -> {
+                    TransferSaga saga =
+                            sagaExecutor.submit(
+                                    () ->
+                                            transferSagaRepository.save(
+                                                    buildSaga(request, idempotencyKey)));
+                    return transactionMapper.toTransferResponse(saga);
+                },
+                TransferService::isSettled);
+    }
+
+    private Optional<TransferResponse> findExisting(String idempotencyKey) {
+        return transferSagaRepository
+                .findByIdempotencyKey(idempotencyKey)
+                .map(transactionMapper::toTransferResponse);
+    }
+
+    private static boolean isSettled(TransferResponse response) {
+        return SETTLED_STATUSES.contains(response.getStatus());
+    }
+
     @Transactional(readOnly = true)
     public TransferResponse getTransfer(String transferId) {
         TransferSaga saga =
                 transferSagaRepository
-                        .findById(transferId)
+                        .findById(parseTransferId(transferId))
                         .orElseThrow(
                                 () ->
                                         new ResourceNotFoundException(
                                                 "Transfer not found: " + transferId));
         return transactionMapper.toTransferResponse(saga);
     }
+
+    private static UUID parseTransferId(String transferId) {
+        try {
+            return UUID.fromString(transferId);
+        } catch (IllegalArgumentException e) {
+            throw new ResourceNotFoundException("Transfer not found: " + transferId);
+        }
+    }
+
+    private void validateTransfer(TransferRequest request) {
+        if (request.getSourceAccountId().equals(request.getTargetAccountId())) {
+            throw new BusinessException("Source and target accounts must be different");
+        }
+    }
+
+    private TransferSaga buildSaga(TransferRequest request, String idempotencyKey) {
+        return TransferSaga.builder()
+                .id(UuidV7.generate())
+                .idempotencyKey(idempotencyKey)
+                .sourceAccountId(request.getSourceAccountId())
+                .targetAccountId(request.getTargetAccountId())
+                .amount(request.getAmount())
+                .currency(request.getCurrency())
+                .description(request.getDescription())
+                .build();
+    }
 }
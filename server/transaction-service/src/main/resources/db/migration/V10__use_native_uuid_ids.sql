@@ -0,0 +1,22 @@
+-- Transaction and saga ids are time-ordered UUIDv7 values stored as native uuid
+ALTER TABLE transactions ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE transactions_archive ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE ledger_entries ALTER COLUMN transaction_id TYPE uuid USING transaction_id::uuid;
+ALTER TABLE ledger_entries_archive
+    ALTER COLUMN transaction_id TYPE uuid USING transaction_id::uuid;
+
+ALTER TABLE transfer_sagas ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE account_transactions
+    ALTER COLUMN transaction_id TYPE uuid USING transaction_id::uuid;
+
+ALTER TABLE transaction_idempotency_keys
+    ALTER COLUMN transaction_id TYPE uuid USING transaction_id::uuid;
+
+ALTER TABLE account_transactions_backfill ALTER COLUMN last_transaction_id DROP DEFAULT;
+ALTER TABLE account_transactions_backfill
+    ALTER COLUMN last_transaction_id TYPE uuid
+    USING COALESCE(NULLIF(last_transaction_id, ''), '00000000-0000-0000-0000-000000000000')::uuid;
+ALTER TABLE account_transactions_backfill
+    ALTER COLUMN last_transaction_id SET DEFAULT '00000000-0000-0000-0000-000000000000';
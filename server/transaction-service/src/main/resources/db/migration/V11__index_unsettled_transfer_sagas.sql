@@ -0,0 +1,4 @@
+-- Lets saga recovery find transfers left unsettled by a restart without scanning settled ones
+CREATE INDEX idx_transfer_sagas_unsettled
+    ON transfer_sagas(updated_at)
+    WHERE status IN ('INITIATED', 'DEBITED', 'COMPENSATING');
@@ -0,0 +1,19 @@
+-- Postings claim their idempotency key with ON CONFLICT DO NOTHING before inserting the
+-- transaction, so a duplicate key is an ordinary outcome instead of an error that aborts a
+-- group commit. The trigger accepts a key already claimed by the same transaction and records
+-- its created_at; a key held by another transaction still fails as before.
+CREATE OR REPLACE FUNCTION register_transaction_idempotency_key() RETURNS trigger AS $$
+BEGIN
+    IF NEW.idempotency_key IS NOT NULL THEN
+        INSERT INTO transaction_idempotency_keys (idempotency_key, transaction_id, created_at)
+        VALUES (NEW.idempotency_key, NEW.id, NEW.created_at)
+        ON CONFLICT (idempotency_key) DO UPDATE SET created_at = EXCLUDED.created_at
+        WHERE transaction_idempotency_keys.transaction_id = EXCLUDED.transaction_id;
+        IF NOT FOUND THEN
+            RAISE EXCEPTION 'duplicate idempotency key %', NEW.idempotency_key
+                USING ERRCODE = 'unique_violation';
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
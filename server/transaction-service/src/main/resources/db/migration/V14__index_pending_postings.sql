@@ -0,0 +1,4 @@
+-- Lets posting recovery find deposits and withdrawals left PENDING without scanning settled ones
+CREATE INDEX idx_transactions_pending
+    ON transactions(created_at)
+    WHERE status = 'PENDING';
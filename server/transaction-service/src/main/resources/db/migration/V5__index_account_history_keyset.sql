@@ -0,0 +1,11 @@
+DROP INDEX IF EXISTS idx_ledger_account_id;
+CREATE INDEX idx_ledger_account_created
+    ON ledger_entries(account_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_transactions_source;
+CREATE INDEX idx_transactions_source_created
+    ON transactions(source_account_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_transactions_target;
+CREATE INDEX idx_transactions_target_created
+    ON transactions(target_account_id, created_at DESC, id DESC);
@@ -0,0 +1,35 @@
+CREATE TABLE account_transactions (
+    account_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    transaction_id VARCHAR(36) NOT NULL,
+    PRIMARY KEY (account_id, created_at, transaction_id)
+);
+
+CREATE FUNCTION link_account_transactions() RETURNS trigger AS $$
+BEGIN
+    IF NEW.source_account_id IS NOT NULL THEN
+        INSERT INTO account_transactions (account_id, created_at, transaction_id)
+        VALUES (NEW.source_account_id, NEW.created_at, NEW.id)
+        ON CONFLICT DO NOTHING;
+    END IF;
+    IF NEW.target_account_id IS NOT NULL THEN
+        INSERT INTO account_transactions (account_id, created_at, transaction_id)
+        VALUES (NEW.target_account_id, NEW.created_at, NEW.id)
+        ON CONFLICT DO NOTHING;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_transactions_link_accounts
+    AFTER INSERT ON transactions
+    FOR EACH ROW EXECUTE FUNCTION link_account_transactions();
+
+-- Rows that existed before the trigger are linked in batches by AccountTransactionBackfill
+CREATE TABLE account_transactions_backfill (
+    id SMALLINT PRIMARY KEY,
+    last_transaction_id VARCHAR(36) NOT NULL DEFAULT '',
+    completed_at TIMESTAMP
+);
+
+INSERT INTO account_transactions_backfill (id) VALUES (1);
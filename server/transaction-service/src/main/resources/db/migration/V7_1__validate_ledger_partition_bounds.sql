@@ -0,0 +1,8 @@
+-- VALIDATE only takes a SHARE UPDATE EXCLUSIVE lock, so postings continue during the scan
+ALTER TABLE transactions VALIDATE CONSTRAINT transactions_legacy_bound;
+ALTER TABLE ledger_entries VALIDATE CONSTRAINT ledger_entries_legacy_bound;
+
+INSERT INTO transaction_idempotency_keys (idempotency_key, transaction_id, created_at)
+SELECT idempotency_key, id, created_at FROM transactions
+WHERE idempotency_key IS NOT NULL
+ON CONFLICT (idempotency_key) DO NOTHING;
@@ -0,0 +1,5 @@
+-- Built concurrently so V7_3 can promote them to the partitions' primary keys without a rebuild
+CREATE UNIQUE INDEX CONCURRENTLY transactions_legacy_id_created_at
+    ON transactions(id, created_at);
+CREATE UNIQUE INDEX CONCURRENTLY ledger_entries_legacy_id_created_at
+    ON ledger_entries(id, created_at);
@@ -0,0 +1,120 @@
+-- Rebuild transactions and ledger_entries as monthly range partitions on created_at. The existing
+-- tables are attached as the partition for everything before the bound V7 checked, so the
+-- exclusive locks here only cover catalog changes. The legacy partitions stay attached until
+-- they are split or archived by hand; TransactionPartitionJob only manages the monthly ones.
+
+-- The partitioned parents get their own copies of these triggers, cloned onto every partition
+DROP TRIGGER trg_transactions_link_accounts ON transactions;
+DROP TRIGGER trg_transactions_idempotency_key ON transactions;
+
+ALTER TABLE transactions RENAME TO transactions_legacy;
+ALTER TABLE ledger_entries RENAME TO ledger_entries_legacy;
+ALTER SEQUENCE ledger_entries_id_seq OWNED BY NONE;
+ALTER TABLE ledger_entries_legacy ALTER COLUMN id DROP DEFAULT;
+
+-- The parents' primary keys and indexes adopt these instead of building new ones
+ALTER TABLE transactions_legacy DROP CONSTRAINT transactions_pkey;
+ALTER TABLE transactions_legacy
+    ADD CONSTRAINT transactions_legacy_pkey
+    PRIMARY KEY USING INDEX transactions_legacy_id_created_at;
+ALTER TABLE ledger_entries_legacy DROP CONSTRAINT ledger_entries_pkey;
+ALTER TABLE ledger_entries_legacy
+    ADD CONSTRAINT ledger_entries_legacy_pkey
+    PRIMARY KEY USING INDEX ledger_entries_legacy_id_created_at;
+
+ALTER INDEX idx_transactions_source_created RENAME TO transactions_legacy_source_created;
+ALTER INDEX idx_transactions_target_created RENAME TO transactions_legacy_target_created;
+ALTER INDEX idx_ledger_transaction_id RENAME TO ledger_entries_legacy_transaction_id;
+ALTER INDEX idx_ledger_account_created RENAME TO ledger_entries_legacy_account_created;
+
+CREATE TABLE transactions (
+    id VARCHAR(36) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED',
+    source_account_id BIGINT,
+    target_account_id BIGINT,
+    amount NUMERIC(19,4) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'ZAR',
+    description TEXT,
+    reference VARCHAR(255),
+    idempotency_key VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE ledger_entries (
+    id BIGINT NOT NULL DEFAULT nextval('ledger_entries_id_seq'),
+    transaction_id VARCHAR(36) NOT NULL,
+    account_id BIGINT NOT NULL,
+    entry_type VARCHAR(10) NOT NULL,
+    amount NUMERIC(19,4) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'ZAR',
+    balance_after NUMERIC(19,4) NOT NULL,
+    description TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE ledger_entries_id_seq OWNED BY ledger_entries.id;
+
+-- The validated bound CHECK implies each partition constraint, so ATTACH skips its scan.
+-- Monthly partitions start at the bound and run to three months ahead.
+DO $$
+DECLARE
+    bound TIMESTAMP;
+    parent TEXT;
+    month_start DATE;
+    horizon DATE := (date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months')::date;
+BEGIN
+    SELECT substring(pg_get_constraintdef(oid) FROM '''([^'']+)''')::timestamp
+    INTO bound
+    FROM pg_constraint
+    WHERE conrelid = 'transactions_legacy'::regclass
+      AND conname = 'transactions_legacy_bound';
+
+    FOREACH parent IN ARRAY ARRAY['transactions', 'ledger_entries'] LOOP
+        EXECUTE format(
+            'ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)',
+            parent,
+            parent || '_legacy',
+            bound);
+        month_start := bound::date;
+        WHILE month_start <= horizon LOOP
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent || '_p' || to_char(month_start, 'YYYYMM'),
+                parent,
+                month_start,
+                (month_start + INTERVAL '1 month')::date);
+            month_start := (month_start + INTERVAL '1 month')::date;
+        END LOOP;
+    END LOOP;
+END $$;
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+CREATE TABLE ledger_entries_default PARTITION OF ledger_entries DEFAULT;
+
+ALTER TABLE transactions ADD PRIMARY KEY (id, created_at);
+CREATE INDEX idx_transactions_source_created
+    ON transactions(source_account_id, created_at DESC, id DESC);
+CREATE INDEX idx_transactions_target_created
+    ON transactions(target_account_id, created_at DESC, id DESC);
+
+ALTER TABLE ledger_entries ADD PRIMARY KEY (id, created_at);
+CREATE INDEX idx_ledger_transaction_id ON ledger_entries(transaction_id);
+CREATE INDEX idx_ledger_account_created
+    ON ledger_entries(account_id, created_at DESC, id DESC);
+
+CREATE TRIGGER trg_transactions_link_accounts
+    AFTER INSERT ON transactions
+    FOR EACH ROW EXECUTE FUNCTION link_account_transactions();
+
+CREATE TRIGGER trg_transactions_idempotency_key
+    AFTER INSERT ON transactions
+    FOR EACH ROW EXECUTE FUNCTION register_transaction_idempotency_key();
+
+-- Partitions older than the hot window are moved here by TransactionPartitionJob
+CREATE TABLE transactions_archive (LIKE transactions) PARTITION BY RANGE (created_at);
+ALTER TABLE transactions_archive ADD PRIMARY KEY (id, created_at);
+
+CREATE TABLE ledger_entries_archive (LIKE ledger_entries) PARTITION BY RANGE (created_at);
+ALTER TABLE ledger_entries_archive ADD PRIMARY KEY (id, created_at);
@@ -0,0 +1,39 @@
+-- transactions and ledger_entries become monthly range partitions on created_at. V7_3 attaches
+-- the existing tables as the partition for everything before a bound two months ahead, so no
+-- rows are copied. This CHECK lets the attach skip its validation scan; it is validated
+-- without blocking writes in V7_1.
+DO $$
+DECLARE
+    bound TIMESTAMP := date_trunc('month', LOCALTIMESTAMP) + INTERVAL '2 months';
+BEGIN
+    EXECUTE format(
+        'ALTER TABLE transactions ADD CONSTRAINT transactions_legacy_bound'
+            || ' CHECK (created_at < %L) NOT VALID',
+        bound);
+    EXECUTE format(
+        'ALTER TABLE ledger_entries ADD CONSTRAINT ledger_entries_legacy_bound'
+            || ' CHECK (created_at < %L) NOT VALID',
+        bound);
+END $$;
+
+-- Idempotency keys can no longer be unique on a table partitioned by created_at. New rows are
+-- registered from now on; V7_1 registers the existing ones.
+CREATE TABLE transaction_idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    transaction_id VARCHAR(36) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE FUNCTION register_transaction_idempotency_key() RETURNS trigger AS $$
+BEGIN
+    IF NEW.idempotency_key IS NOT NULL THEN
+        INSERT INTO transaction_idempotency_keys (idempotency_key, transaction_id, created_at)
+        VALUES (NEW.idempotency_key, NEW.id, NEW.created_at);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_transactions_idempotency_key
+    AFTER INSERT ON transactions
+    FOR EACH ROW EXECUTE FUNCTION register_transaction_idempotency_key();
@@ -0,0 +1,39 @@
+CREATE TABLE ledger_balance_checkpoints (
+    account_id BIGINT NOT NULL,
+    balance_date DATE NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    closing_balance NUMERIC(19,4) NOT NULL,
+    last_entry_at TIMESTAMP NOT NULL,
+    last_entry_id BIGINT NOT NULL,
+    PRIMARY KEY (account_id, balance_date)
+);
+
+CREATE FUNCTION checkpoint_ledger_balance() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO ledger_balance_checkpoints
+        (account_id, balance_date, currency, closing_balance, last_entry_at, last_entry_id)
+    VALUES
+        (NEW.account_id, NEW.created_at::date, NEW.currency, NEW.balance_after, NEW.created_at, NEW.id)
+    ON CONFLICT (account_id, balance_date) DO UPDATE
+        SET currency = EXCLUDED.currency,
+            closing_balance = EXCLUDED.closing_balance,
+            last_entry_at = EXCLUDED.last_entry_at,
+            last_entry_id = EXCLUDED.last_entry_id
+        WHERE (ledger_balance_checkpoints.last_entry_at, ledger_balance_checkpoints.last_entry_id)
+            < (EXCLUDED.last_entry_at, EXCLUDED.last_entry_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ledger_entries_checkpoint_balance
+    AFTER INSERT ON ledger_entries
+    FOR EACH ROW EXECUTE FUNCTION checkpoint_ledger_balance();
+
+-- Months written before the trigger existed are checkpointed in parallel by LedgerCheckpointBackfill
+CREATE TABLE ledger_balance_checkpoint_backfill (
+    month DATE PRIMARY KEY,
+    completed_at TIMESTAMP
+);
+
+INSERT INTO ledger_balance_checkpoint_backfill (month)
+SELECT DISTINCT date_trunc('month', created_at)::date FROM ledger_entries;
@@ -0,0 +1,3 @@
+-- Hibernate allocates ids in blocks of 50 from these sequences so inserts can be batched
+ALTER SEQUENCE ledger_entries_id_seq INCREMENT BY 50;
+ALTER SEQUENCE outbox_events_id_seq INCREMENT BY 50;
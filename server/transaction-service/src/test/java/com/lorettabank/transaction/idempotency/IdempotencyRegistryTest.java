@@ -0,0 +1,189 @@
+package com.lorettabank.transaction.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lorettabank.shared.exception.DuplicateResourceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class IdempotencyRegistryTest {
+
+    private static final String KEY = "idempotency:transaction:key-1";
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private IdempotencyRegistry registry;
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(
+                        inv ->
+                                redis.putIfAbsent(
+                                                inv.<String>getArgument(0),
+                                                inv.<String>getArgument(1))
+                                        == null);
+        when(valueOperations.get(anyString()))
+                .thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        // release: compare-and-delete
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .thenAnswer(
+                        inv -> {
+                            List<String> keys = inv.getArgument(1);
+                            return redis.remove(keys.get(0), inv.getArgument(2)) ? 1L : 0L;
+                        });
+        // complete: compare-and-set
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenAnswer(
+                        inv -> {
+                            List<String> keys = inv.getArgument(1);
+                            return redis.replace(
+                                            keys.get(0), inv.getArgument(2), inv.getArgument(3))
+                                    ? 1L
+                                    : 0L;
+                        });
+        registry =
+                new IdempotencyRegistry(
+                        redisTemplate,
+                        new ObjectMapper(),
+                        new SimpleMeterRegistry(),
+                        60_000,
+                        86_400_000);
+    }
+
+    @Test
+    void shouldCacheFinalResponseForFirstRequest() {
+        String response = execute(Optional.empty());
+
+        assertThat(response).isEqualTo("posted");
+        assertThat(invocations).hasValue(1);
+        assertThat(redis).containsEntry(KEY, "\"posted\"");
+    }
+
+    @Test
+    void shouldReplayCompletedResponseWithoutTouchingDatabase() {
+        redis.put(KEY, "\"posted\"");
+
+        String response =
+                registry.execute(
+                        "transaction",
+                        "key-1",
+                        String.class,
+                        () -> {
+                            throw new AssertionError("database should not be consulted");
+                        },
+                        this::post,
+                        r -> true);
+
+        assertThat(response).isEqualTo("posted");
+        assertThat(invocations).hasValue(0);
+    }
+
+    @Test
+    void shouldRejectDuplicateWhileFirstRequestIsInProgress() {
+        redis.put(KEY, "PENDING:other-request");
+
+        assertThatThrownBy(() -> execute(Optional.empty()))
+                .isInstanceOf(DuplicateResourceException.class);
+        assertThat(invocations).hasValue(0);
+        assertThat(redis).containsEntry(KEY, "PENDING:other-request");
+    }
+
+    @Test
+    void shouldReleaseClaimWhenActionFails() {
+        assertThatThrownBy(
+                        () ->
+                                registry.execute(
+                                        "transaction",
+                                        "key-1",
+                                        String.class,
+                                        Optional::empty,
+                                        () -> {
+                                            throw new IllegalStateException("boom");
+                                        },
+                                        r -> true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(redis).doesNotContainKey(KEY);
+    }
+
+    @Test
+    void shouldNotOverwriteClaimTakenOverAfterPendingTtlExpired() {
+        String response =
+                registry.execute(
+                        "transaction",
+                        "key-1",
+                        String.class,
+                        Optional::empty,
+                        () -> {
+                            // the pending claim expires mid-request and a retry claims the key
+                            redis.put(KEY, "PENDING:retry");
+                            return post();
+                        },
+                        r -> true);
+
+        assertThat(response).isEqualTo("posted");
+        assertThat(redis).containsEntry(KEY, "PENDING:retry");
+    }
+
+    @Test
+    void shouldNotReleaseClaimTakenOverAfterPendingTtlExpired() {
+        assertThatThrownBy(
+                        () ->
+                                registry.execute(
+                                        "transaction",
+                                        "key-1",
+                                        String.class,
+                                        Optional::empty,
+                                        () -> {
+                                            redis.put(KEY, "PENDING:retry");
+                                            throw new IllegalStateException("boom");
+                                        },
+                                        r -> true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(redis).containsEntry(KEY, "PENDING:retry");
+    }
+
+    @Test
+    void shouldFallBackToDatabaseWhenRedisIsUnavailable() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(execute(Optional.of("stored"))).isEqualTo("stored");
+        assertThat(execute(Optional.empty())).isEqualTo("posted");
+        assertThat(invocations).hasValue(1);
+    }
+
+    private String execute(Optional<String> existing) {
+        return registry.execute(
+                "transaction", "key-1", String.class, () -> existing, this::post, r -> true);
+    }
+
+    private String post() {
+        invocations.incrementAndGet();
+        return "posted";
+    }
+}
@@ -1,7 +1,9 @@
 package com.lorettabank.transaction.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.lorettabank.shared.id.UuidV7;
 import com.lorettabank.transaction.entity.EntryType;
 import com.lorettabank.transaction.entity.LedgerEntry;
 import com.lorettabank.transaction.entity.SagaStatus;
@@ -10,12 +12,16 @@ import com.lorettabank.transaction.entity.TransactionStatus;
 import com.lorettabank.transaction.entity.TransactionType;
 import com.lorettabank.transaction.entity.TransferSaga;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -52,11 +58,17 @@ class TransactionPersistenceIntegrationTest {
     @Autowired
     private LedgerEntryRepository ledgerEntryRepository;
 
+    @Autowired
+    private AccountTransactionRepository accountTransactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void shouldPersistAndLoadSagaByIdempotencyKey() {
         TransferSaga saga =
                 TransferSaga.builder()
-                        .id(UUID.randomUUID().toString())
+                        .id(UuidV7.generate())
                         .idempotencyKey("idem-transfer-001")
                         .sourceAccountId(101L)
                         .targetAccountId(202L)
@@ -77,7 +89,7 @@ class TransactionPersistenceIntegrationTest {
 
     @Test
     void shouldPersistTransactionAndLedgerEntries() {
-        String transactionId = UUID.randomUUID().toString();
+        UUID transactionId = UuidV7.generate();
 
         Transaction transaction =
                 Transaction.builder()
@@ -110,4 +122,118 @@ class TransactionPersistenceIntegrationTest {
         assertThat(entries).hasSize(1);
         assertThat(entries.get(0).getAccountId()).isEqualTo(5001L);
     }
+
+    @Test
+    void shouldSeekLedgerEntriesPastCursor() {
+        UUID transactionId = UuidV7.generate();
+        for (int i = 1; i <= 3; i++) {
+            ledgerEntryRepository.save(
+                    LedgerEntry.builder()
+                            .transactionId(transactionId)
+                            .accountId(7001L)
+                            .entryType(EntryType.CREDIT)
+                            .amount(new BigDecimal("10.0000"))
+                            .currency("ZAR")
+                            .balanceAfter(new BigDecimal(i * 10))
+                            .build());
+        }
+
+        Instant now = Instant.now().plusSeconds(60);
+        List<LedgerEntry> first =
+                ledgerEntryRepository.findByAccountIdBefore(
+                        7001L, Instant.EPOCH, now, null, PageRequest.ofSize(2));
+        LedgerEntry boundary = first.get(1);
+        List<LedgerEntry> rest =
+                ledgerEntryRepository.findByAccountIdBefore(
+                        7001L,
+                        Instant.EPOCH,
+                        boundary.getCreatedAt(),
+                        boundary.getId(),
+                        PageRequest.ofSize(2));
+
+        assertThat(first).hasSize(2);
+        assertThat(rest).hasSize(1);
+        assertThat(rest.get(0).getId()).isNotIn(first.get(0).getId(), boundary.getId());
+    }
+
+    @Test
+    void shouldLinkTransactionToBothAccountsOnInsert() {
+        Transaction transfer =
+                Transaction.builder()
+                        .id(UuidV7.generate())
+                        .type(TransactionType.TRANSFER)
+                        .status(TransactionStatus.COMPLETED)
+                        .sourceAccountId(8001L)
+                        .targetAccountId(8002L)
+                        .amount(new BigDecimal("75.0000"))
+                        .currency("ZAR")
+                        .build();
+        transactionRepository.saveAndFlush(transfer);
+
+        Instant now = Instant.now().plusSeconds(60);
+        assertThat(
+                        accountTransactionRepository.findTransactionsBefore(
+                                8001L, Instant.EPOCH, now, null, PageRequest.ofSize(5)))
+                .extracting(Transaction::getId)
+                .containsExactly(transfer.getId());
+        assertThat(
+                        accountTransactionRepository.findTransactionsBefore(
+                                8002L, Instant.EPOCH, now, null, PageRequest.ofSize(5)))
+                .extracting(Transaction::getId)
+                .containsExactly(transfer.getId());
+    }
+
+    @Test
+    void shouldRejectDuplicateIdempotencyKeyAcrossPartitions() {
+        Transaction original =
+                Transaction.builder()
+                        .id(UuidV7.generate())
+                        .type(TransactionType.DEPOSIT)
+                        .targetAccountId(9001L)
+                        .amount(new BigDecimal("20.0000"))
+                        .idempotencyKey("idem-partitioned-001")
+                        .build();
+        transactionRepository.saveAndFlush(original);
+
+        Transaction duplicate =
+                Transaction.builder()
+                        .id(UuidV7.generate())
+                        .type(TransactionType.DEPOSIT)
+                        .targetAccountId(9001L)
+                        .amount(new BigDecimal("20.0000"))
+                        .idempotencyKey("idem-partitioned-001")
+                        .build();
+
+        assertThat(transactionRepository.findByIdempotencyKey("idem-partitioned-001"))
+                .get()
+                .extracting(Transaction::getId)
+                .isEqualTo(original.getId());
+        assertThatThrownBy(() -> transactionRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldCheckpointLatestBalanceOfTheDay() {
+        UUID transactionId = UuidV7.generate();
+        for (int i = 1; i <= 3; i++) {
+            ledgerEntryRepository.saveAndFlush(
+                    LedgerEntry.builder()
+                            .transactionId(transactionId)
+                            .accountId(9101L)
+                            .entryType(EntryType.CREDIT)
+                            .amount(new BigDecimal("25.0000"))
+                            .currency("ZAR")
+                            .balanceAfter(new BigDecimal(i * 25))
+                            .build());
+        }
+
+        List<BigDecimal> closingBalances =
+                jdbcTemplate.queryForList(
+                        "SELECT closing_balance FROM ledger_balance_checkpoints"
+                                + " WHERE account_id = ?",
+                        BigDecimal.class,
+                        9101L);
+
+        assertThat(closingBalances).containsExactly(new BigDecimal("75.0000"));
+    }
 }
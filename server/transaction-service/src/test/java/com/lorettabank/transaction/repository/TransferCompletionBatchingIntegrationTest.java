@@ -0,0 +1,149 @@
+package com.lorettabank.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lorettabank.shared.id.UuidV7;
+import com.lorettabank.transaction.entity.EntryType;
+import com.lorettabank.transaction.entity.LedgerEntry;
+import com.lorettabank.transaction.entity.OutboxEvent;
+import com.lorettabank.transaction.entity.Transaction;
+import com.lorettabank.transaction.entity.TransactionStatus;
+import com.lorettabank.transaction.entity.TransactionType;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(
+        properties = {
+            "eureka.client.enabled=false",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+        })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransferCompletionBatchingIntegrationTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(TransferCompletionBatchingIntegrationTest.class);
+
+    private static final int TRANSFERS = 200;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("loretta_transaction_test")
+                    .withUsername("loretta")
+                    .withPassword("loretta_secret");
+
+    @DynamicPropertySource
+    static void configureDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> true);
+    }
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldIssueFewerStatementsPerTransferWhenBatching() {
+        completeTransfers(TRANSFERS, 1);
+        completeTransfers(TRANSFERS, null);
+
+        Run unbatched = completeTransfers(TRANSFERS, 1);
+        Run batched = completeTransfers(TRANSFERS, null);
+
+        log.info(
+                "Transfer completion: unbatched {} statements/transfer {} us/transfer,"
+                        + " batched {} statements/transfer {} us/transfer",
+                unbatched.statementsPerTransfer(),
+                unbatched.microsPerTransfer(),
+                batched.statementsPerTransfer(),
+                batched.microsPerTransfer());
+        assertThat(batched.statementsPerTransfer()).isLessThan(unbatched.statementsPerTransfer());
+    }
+
+    // Each transfer completes in its own transaction, as TransferSagaOrchestrator does, so only
+    // the rows of one completion can share a JDBC batch.
+    private Run completeTransfers(int transfers, Integer batchSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Statistics statistics =
+                entityManager
+                        .getEntityManagerFactory()
+                        .unwrap(SessionFactory.class)
+                        .getStatistics();
+        statistics.clear();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < transfers; i++) {
+            transactionTemplate.executeWithoutResult(status -> completeTransfer(batchSize));
+        }
+        long elapsed = System.nanoTime() - started;
+
+        return new Run(
+                (double) statistics.getPrepareStatementCount() / transfers,
+                TimeUnit.NANOSECONDS.toMicros(elapsed) / transfers);
+    }
+
+    private void completeTransfer(Integer batchSize) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        UUID transactionId = UuidV7.generate();
+        entityManager.persist(
+                Transaction.builder()
+                        .id(transactionId)
+                        .type(TransactionType.TRANSFER)
+                        .status(TransactionStatus.COMPLETED)
+                        .sourceAccountId(11L)
+                        .targetAccountId(22L)
+                        .amount(new BigDecimal("10.0000"))
+                        .currency("ZAR")
+                        .build());
+        entityManager.persist(entry(transactionId, 11L, EntryType.DEBIT));
+        entityManager.persist(entry(transactionId, 22L, EntryType.CREDIT));
+        entityManager.persist(event(transactionId, "TRANSFER_COMPLETED"));
+        entityManager.persist(event(transactionId, "MONEY_TRANSFERRED"));
+    }
+
+    private static LedgerEntry entry(UUID transactionId, Long accountId, EntryType type) {
+        return LedgerEntry.builder()
+                .transactionId(transactionId)
+                .accountId(accountId)
+                .entryType(type)
+                .amount(new BigDecimal("10.0000"))
+                .currency("ZAR")
+                .balanceAfter(new BigDecimal("100.0000"))
+                .build();
+    }
+
+    private static OutboxEvent event(UUID transactionId, String eventType) {
+        return OutboxEvent.builder()
+                .aggregateType("Transaction")
+                .aggregateId(transactionId.toString())
+                .eventType(eventType)
+                .payload("{\"transactionId\":\"" + transactionId + "\"}")
+                .build();
+    }
+
+    private record Run(double statementsPerTransfer, long microsPerTransfer) {}
+}
@@ -0,0 +1,239 @@
+package com.lorettabank.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lorettabank.shared.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+class GroupCommitLedgerWriterTest {
+
+    private final PlatformTransactionManager transactionManager =
+            mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger commits = new AtomicInteger();
+    private GroupCommitLedgerWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void shouldShareOneCommitAcrossConcurrentWrites() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        countCommits();
+        writer = startWriter(64, 50_000);
+
+        int writes = 32;
+        CountDownLatch ready = new CountDownLatch(writes);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < writes; i++) {
+                int value = i;
+                results.add(
+                        CompletableFuture.supplyAsync(
+                                () -> {
+                                    ready.countDown();
+                                    return writer.write(() -> value);
+                                },
+                                callers));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+        }
+
+        for (int i = 0; i < writes; i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+        assertThat(commits.get()).isLessThan(writes);
+        assertThat(meterRegistry.get("ledger.group-commit.batch.size").summary().totalAmount())
+                .isEqualTo(writes);
+    }
+
+    @Test
+    void shouldRejectOnlyTheFailingWriteOfAGroupCommit() throws Exception {
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        AtomicInteger runs = new AtomicInteger();
+        writer = startWriter(2, 1_000_000);
+
+        CompletableFuture<String> ok =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                writer.write(
+                                        () -> {
+                                            runs.incrementAndGet();
+                                            return "ok";
+                                        }));
+        CompletableFuture<String> broken =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                writer.write(
+                                        () -> {
+                                            throw new IllegalStateException("rejected");
+                                        }));
+
+        assertThat(ok.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThatThrownBy(() -> broken.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(runs).hasValue(1);
+        verify(status).rollbackToSavepoint(any());
+        verify(status, never()).setRollbackOnly();
+    }
+
+    @Test
+    void shouldRerunSurvivingWritesWhenAFailedFlushDoomsTheTransaction() throws Exception {
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        AtomicBoolean flushFailed = new AtomicBoolean();
+        when(status.isRollbackOnly()).thenAnswer(invocation -> flushFailed.get());
+        writer = startWriter(2, 1_000_000);
+
+        CompletableFuture<String> ok =
+                CompletableFuture.supplyAsync(() -> writer.write(() -> "ok"));
+        CompletableFuture<String> broken =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                writer.write(
+                                        () -> {
+                                            flushFailed.set(true);
+                                            throw new IllegalStateException("flush failed");
+                                        }));
+
+        assertThat(ok.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThatThrownBy(() -> broken.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(status).setRollbackOnly();
+        verify(status, never()).rollbackToSavepoint(any());
+        assertThat(meterRegistry.get("ledger.group-commit.fallbacks").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldCommitDirectlyWhenDisabled() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        countCommits();
+        writer =
+                new GroupCommitLedgerWriter(
+                        transactionManager, meterRegistry, false, 64, 300, 100, 5_000);
+        writer.start();
+
+        assertThat(writer.write(() -> 7)).isEqualTo(7);
+        assertThat(commits).hasValue(1);
+    }
+
+    @Test
+    void shouldCompleteWritesRacingWithStop() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        writer = startWriter(64, 300);
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2_000; i++) {
+                int value = i;
+                results.add(
+                        CompletableFuture.supplyAsync(() -> writer.write(() -> value), callers));
+                if (i == 1_000) {
+                    callers.execute(writer::stop);
+                }
+            }
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void shouldOnlyRejectTimedOutWritesThatNeverStarted() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        writer = startWriter(1, 0, 100);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+
+        CompletableFuture<String> running =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                writer.write(
+                                        () -> {
+                                            blocked.countDown();
+                                            awaitUninterruptibly(release);
+                                            return "committed";
+                                        }));
+        blocked.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                writer.write(
+                                        () -> {
+                                            queuedRan.set(true);
+                                            return "late";
+                                        }));
+
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("committed");
+        writer.stop();
+        assertThat(queuedRan).isFalse();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private GroupCommitLedgerWriter startWriter(int maxBatchSize, long maxWaitMicros) {
+        return startWriter(maxBatchSize, maxWaitMicros, 5_000);
+    }
+
+    private GroupCommitLedgerWriter startWriter(
+            int maxBatchSize, long maxWaitMicros, long writeTimeoutMs) {
+        GroupCommitLedgerWriter started =
+                new GroupCommitLedgerWriter(
+                        transactionManager,
+                        meterRegistry,
+                        true,
+                        maxBatchSize,
+                        maxWaitMicros,
+                        1_000,
+                        writeTimeoutMs);
+        started.start();
+        return started;
+    }
+
+    private void countCommits() {
+        doAnswer(
+                        invocation -> {
+                            commits.incrementAndGet();
+                            return null;
+                        })
+                .when(transactionManager)
+                .commit(any());
+    }
+}
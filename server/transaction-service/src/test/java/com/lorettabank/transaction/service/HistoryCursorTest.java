@@ -0,0 +1,29 @@
+package com.lorettabank.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class HistoryCursorTest {
+
+    @Test
+    void shouldRoundTripCreatedAtAndId() {
+        HistoryCursor cursor =
+                new HistoryCursor(Instant.parse("2025-03-14T09:26:53.589793Z"), "42");
+
+        HistoryCursor decoded = HistoryCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.longId()).isEqualTo(42L);
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThatThrownBy(() -> HistoryCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HistoryCursor(Instant.EPOCH, "abc").longId())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.lorettabank.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class HistoryExporterTest {
+
+    @Test
+    void shouldQuoteCsvFieldsOnlyWhenNeeded() {
+        assertThat(HistoryExporter.csvField(null)).isEmpty();
+        assertThat(HistoryExporter.csvField(new BigDecimal("1E+3"))).isEqualTo("1000");
+        assertThat(HistoryExporter.csvField("Salary")).isEqualTo("Salary");
+        assertThat(HistoryExporter.csvField("Rent, March")).isEqualTo("\"Rent, March\"");
+        assertThat(HistoryExporter.csvField("the \"big\" one"))
+                .isEqualTo("\"the \"\"big\"\" one\"");
+    }
+
+    @Test
+    void shouldNeutraliseCsvFieldsThatSpreadsheetsWouldEvaluate() {
+        assertThat(HistoryExporter.csvField("=HYPERLINK(\"http://x\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+        assertThat(HistoryExporter.csvField("+27 refund")).isEqualTo("\"'+27 refund\"");
+        assertThat(HistoryExporter.csvField("-2+3")).isEqualTo("\"'-2+3\"");
+        assertThat(HistoryExporter.csvField("@SUM(A1)")).isEqualTo("\"'@SUM(A1)\"");
+        assertThat(HistoryExporter.csvField("\tcmd")).isEqualTo("\"'\tcmd\"");
+        assertThat(HistoryExporter.csvField("\rcmd")).isEqualTo("\"'\rcmd\"");
+        assertThat(HistoryExporter.csvField(new BigDecimal("-250.5000"))).isEqualTo("-250.5000");
+    }
+
+    @Test
+    void shouldParseExportFormatCaseInsensitively() {
+        assertThat(ExportFormat.fromParameter("CSV")).isEqualTo(ExportFormat.CSV);
+        assertThat(ExportFormat.fromParameter("ndjson")).isEqualTo(ExportFormat.NDJSON);
+        assertThatThrownBy(() -> ExportFormat.fromParameter("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("xml");
+    }
+}
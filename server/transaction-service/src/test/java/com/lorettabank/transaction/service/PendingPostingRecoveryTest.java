@@ -0,0 +1,62 @@
+package com.lorettabank.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lorettabank.shared.id.UuidV7;
+import com.lorettabank.transaction.entity.Transaction;
+import com.lorettabank.transaction.entity.TransactionStatus;
+import com.lorettabank.transaction.entity.TransactionType;
+import com.lorettabank.transaction.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PendingPostingRecoveryTest {
+
+    private final TransactionRepository repository = mock(TransactionRepository.class);
+    private final TransactionService transactionService = mock(TransactionService.class);
+    private final PendingPostingRecovery recovery =
+            new PendingPostingRecovery(
+                    repository, transactionService, new SimpleMeterRegistry(), 300_000, 100);
+
+    @Test
+    void shouldCountOnlyPostingsSettledByRecovery() {
+        Transaction settled = pending(TransactionType.DEPOSIT);
+        Transaction settledByRequest = pending(TransactionType.WITHDRAWAL);
+        when(repository.findStale(anyCollection(), any(), any()))
+                .thenReturn(List.of(settled, settledByRequest));
+        when(transactionService.settlePending(settled)).thenReturn(true);
+        when(transactionService.settlePending(settledByRequest)).thenReturn(false);
+
+        assertThat(recovery.settleStale()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLeavePostingForNextRunWhenAccountServiceIsUnavailable() {
+        Transaction unreachable = pending(TransactionType.DEPOSIT);
+        Transaction next = pending(TransactionType.DEPOSIT);
+        when(repository.findStale(anyCollection(), any(), any()))
+                .thenReturn(List.of(unreachable, next));
+        when(transactionService.settlePending(unreachable))
+                .thenThrow(new IllegalStateException("account service unavailable"));
+        when(transactionService.settlePending(next)).thenReturn(true);
+
+        assertThat(recovery.settleStale()).isEqualTo(1);
+        verify(transactionService).settlePending(next);
+    }
+
+    private static Transaction pending(TransactionType type) {
+        return Transaction.builder()
+                .id(UuidV7.generate())
+                .type(type)
+                .status(TransactionStatus.PENDING)
+                .createdAt(Instant.parse("2025-03-14T09:00:00Z"))
+                .build();
+    }
+}
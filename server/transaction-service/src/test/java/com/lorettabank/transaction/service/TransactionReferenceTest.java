@@ -0,0 +1,18 @@
+package com.lorettabank.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.lorettabank.shared.id.UuidV7;
+import org.junit.jupiter.api.Test;
+
+class TransactionReferenceTest {
+
+    @Test
+    void shouldDifferForIdsGeneratedBackToBack() {
+        String first = TransactionReference.of("DEP", UuidV7.generate());
+        String second = TransactionReference.of("DEP", UuidV7.generate());
+
+        assertThat(first).matches("DEP-[0-9A-F]{8}");
+        assertThat(second).isNotEqualTo(first);
+    }
+}
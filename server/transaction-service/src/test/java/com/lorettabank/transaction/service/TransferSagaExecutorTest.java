@@ -0,0 +1,28 @@
+package com.lorettabank.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.lorettabank.shared.id.UuidV7;
+import com.lorettabank.transaction.entity.TransferSaga;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class TransferSagaExecutorTest {
+
+    @Test
+    void shouldFailSagaAndReleasePermitWhenShutDown() throws Exception {
+        TransferSagaOrchestrator orchestrator = mock(TransferSagaOrchestrator.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TransferSagaExecutor executor = new TransferSagaExecutor(orchestrator, meterRegistry, 1);
+        executor.destroy();
+        TransferSaga saga = TransferSaga.builder().id(UuidV7.generate()).build();
+
+        executor.submit(() -> saga);
+
+        verify(orchestrator).abort(saga, "Transfer service is shutting down");
+        assertThat(executor.isRunning(saga.getId())).isFalse();
+        assertThat(meterRegistry.get("transfer.saga.in-flight").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.lorettabank.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lorettabank.shared.id.UuidV7;
+import com.lorettabank.transaction.entity.SagaStatus;
+import com.lorettabank.transaction.entity.TransferSaga;
+import com.lorettabank.transaction.repository.TransferSagaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TransferSagaRecoveryTest {
+
+    private final TransferSagaRepository repository = mock(TransferSagaRepository.class);
+    private final TransferSagaOrchestrator orchestrator = mock(TransferSagaOrchestrator.class);
+    private final TransferSagaExecutor executor = mock(TransferSagaExecutor.class);
+    private final TransferSagaRecovery recovery =
+            new TransferSagaRecovery(
+                    repository, orchestrator, executor, new SimpleMeterRegistry(), 60_000, 100);
+
+    @Test
+    void shouldResumeOnlyClaimedSagasNotRunningLocally() {
+        TransferSaga claimed = saga(SagaStatus.INITIATED);
+        TransferSaga claimedElsewhere = saga(SagaStatus.DEBITED);
+        TransferSaga runningHere = saga(SagaStatus.INITIATED);
+        when(repository.findStale(anyCollection(), any(), any()))
+                .thenReturn(List.of(claimed, claimedElsewhere, runningHere));
+        when(executor.isRunning(runningHere.getId())).thenReturn(true);
+        when(repository.claimStale(eq(claimed.getId()), any(), any(), any())).thenReturn(1);
+        when(repository.claimStale(eq(claimedElsewhere.getId()), any(), any(), any()))
+                .thenReturn(0);
+
+        assertThat(recovery.recoverStale()).isEqualTo(1);
+
+        verify(orchestrator).resume(claimed);
+        verify(orchestrator, never()).resume(claimedElsewhere);
+        verify(orchestrator, never()).resume(runningHere);
+    }
+
+    @Test
+    void shouldLeaveSagaForNextRunWhenResumeFails() {
+        TransferSaga saga = saga(SagaStatus.INITIATED);
+        when(repository.findStale(anyCollection(), any(), any())).thenReturn(List.of(saga));
+        when(repository.claimStale(any(), any(), any(), any())).thenReturn(1);
+        doThrow(new IllegalStateException("account service unavailable"))
+                .when(orchestrator)
+                .resume(saga);
+
+        assertThat(recovery.recoverStale()).isZero();
+    }
+
+    private static TransferSaga saga(SagaStatus status) {
+        return TransferSaga.builder()
+                .id(UuidV7.generate())
+                .status(status)
+                .updatedAt(Instant.parse("2025-03-14T09:00:00Z"))
+                .build();
+    }
+}